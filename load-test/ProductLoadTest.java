@@ -0,0 +1,86 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// Closed-loop load generator that needs only a JDK 21:
+//   java load-test/ProductLoadTest.java [url] [concurrency] [seconds]
+// Each of the <concurrency> clients sends one request, waits for the answer and sends the next.
+public class ProductLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String url = args.length > 0 ? args[0] : "http://localhost:8080/api/v1/products/scroll?size=20";
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 400;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).build();
+
+        // Warm up the server before measuring
+        run(client, request, concurrency, Duration.ofSeconds(5));
+        Result result = run(client, request, concurrency, duration);
+
+        long[] latencies = result.latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        System.out.printf("url=%s concurrency=%d duration=%ss%n", url, concurrency, duration.toSeconds());
+        System.out.printf("requests=%d throughput=%.1f req/s ok=%d rejected(503)=%d errors=%d%n",
+            latencies.length, latencies.length / (double) duration.toSeconds(),
+            result.ok.sum(), result.rejected.sum(), result.errors.sum());
+        System.out.printf("latency ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+            percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 99),
+            latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static Result run(HttpClient client, HttpRequest request, int concurrency, Duration duration) throws InterruptedException {
+        Result result = new Result();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Thread> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        if (status == 503) {
+                            result.rejected.increment();
+                        } else if (status < 400) {
+                            result.ok.increment();
+                        } else {
+                            result.errors.increment();
+                        }
+                    } catch (Exception e) {
+                        result.errors.increment();
+                    }
+                    result.latencies.add(System.nanoTime() - start);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return result;
+    }
+
+    private static double percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Result {
+        final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        final LongAdder ok = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,117 @@
+#!/bin/bash
+
+echo "=========================================="
+echo "  Native Smoke Test - Products API"
+echo "=========================================="
+echo ""
+
+GREEN='\033[0;32m'
+YELLOW='\033[1;33m'
+RED='\033[0;31m'
+BLUE='\033[0;34m'
+NC='\033[0m'
+
+PORT=${SMOKE_PORT:-18080}
+BASE_URL="http://localhost:$PORT"
+JAR=target/desafio-mercado-livre-1.0.0.jar
+NATIVE=target/desafio-mercado-livre
+STARTUP_TIMEOUT=120
+EXPECTED_PRODUCTS=$(grep -c "^(" src/main/resources/data.sql)
+
+if [ ! -x "$NATIVE" ]; then
+    echo -e "${YELLOW}⚠️  Native executable not found at $NATIVE${NC}"
+    echo ""
+    echo "Build it with GraalVM 21 as JAVA_HOME:"
+    echo "  mvn -Pnative -DskipTests package"
+    echo ""
+    exit 1
+fi
+
+if [ ! -f "$JAR" ]; then
+    echo -e "${YELLOW}⚠️  Jar not found at $JAR, building it...${NC}"
+    mvn -B -q -DskipTests package || exit 1
+fi
+
+RESULTS=()
+FAILED=0
+
+check() {
+    local description=$1
+    local expected=$2
+    local actual=$3
+
+    if [ "$actual" = "$expected" ]; then
+        echo -e "  ${GREEN}✓${NC} $description"
+    else
+        echo -e "  ${RED}✗ $description: expected $expected, got $actual${NC}"
+        FAILED=1
+    fi
+}
+
+status() {
+    curl -s -o /dev/null -w "%{http_code}" "$@"
+}
+
+# Starts the build, waits for the first product read, runs the checks against the data.sql
+# dataset and records startup time and resident memory
+smoke() {
+    local name=$1
+    shift
+    local log="target/smoke-$name.log"
+
+    echo -e "${BLUE}━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━${NC}"
+    echo -e "${YELLOW}📊 $name${NC}"
+    echo -e "${BLUE}━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━${NC}"
+
+    local start=$(date +%s%N)
+    "$@" --server.port=$PORT --spring.profiles.active=prod > "$log" 2>&1 &
+    local pid=$!
+
+    until [ "$(status "$BASE_URL/api/v1/products/1")" = "200" ]; do
+        if ! kill -0 $pid 2>/dev/null || [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge $STARTUP_TIMEOUT ]; then
+            echo -e "  ${RED}✗ Did not serve GET /api/v1/products/1, see $log${NC}"
+            kill $pid 2>/dev/null
+            FAILED=1
+            return
+        fi
+        sleep 0.01
+    done
+    local first_request=$(( ($(date +%s%N) - start) / 1000000 ))
+    local started=$(grep -o "Started ApiApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]* seconds")
+
+    local total=$(curl -s "$BASE_URL/api/v1/products?size=100" | grep -o '"totalElements":[0-9]*' | cut -d: -f2)
+    check "data.sql loaded ($EXPECTED_PRODUCTS products)" "$EXPECTED_PRODUCTS" "$total"
+    check "GET /api/v1/products/1" 200 "$(status "$BASE_URL/api/v1/products/1")"
+    check "GET /api/v1/products/scroll" 200 "$(status "$BASE_URL/api/v1/products/scroll?size=2&sortBy=price")"
+    check "GET /api/v1/products/search" 200 "$(status "$BASE_URL/api/v1/products/search?q=notebook")"
+    check "GET /api/v1/products/999999" 404 "$(status "$BASE_URL/api/v1/products/999999")"
+    check "POST /api/v1/products" 201 "$(status -X POST -H "Content-Type: application/json" \
+        -d '{"name":"Smoke","description":"Smoke test","price":10.00}' "$BASE_URL/api/v1/products")"
+    check "PATCH /api/v1/products/1" 200 "$(status -X PATCH -H "Content-Type: application/merge-patch+json" \
+        -d '{"price":3400.00}' "$BASE_URL/api/v1/products/1")"
+    check "DELETE /api/v1/products/2" 204 "$(status -X DELETE "$BASE_URL/api/v1/products/2")"
+    check "GET /v3/api-docs" 200 "$(status "$BASE_URL/v3/api-docs")"
+    check "GET /actuator/prometheus" 200 "$(status "$BASE_URL/actuator/prometheus")"
+
+    # After the requests above, so the caches and request path are populated
+    local rss_mb=$(( $(awk '/VmRSS/ {print $2}' /proc/$pid/status) / 1024 ))
+
+    kill $pid
+    wait $pid 2>/dev/null
+
+    echo "  Started in: ${started:-?} | First request: ${first_request} ms | RSS: ${rss_mb} MB"
+    echo ""
+    RESULTS+=("$(printf "%-8s %-16s %-16s %s" "$name" "${started:-?}" "${first_request} ms" "${rss_mb} MB")")
+}
+
+smoke "jvm" java -jar "$JAR"
+smoke "native" "$NATIVE"
+
+echo -e "${GREEN}==========================================${NC}"
+printf "%-8s %-16s %-16s %s\n" "Build" "Started in" "First request" "RSS"
+for row in "${RESULTS[@]}"; do
+    echo "$row"
+done
+echo -e "${GREEN}==========================================${NC}"
+
+exit $FAILED
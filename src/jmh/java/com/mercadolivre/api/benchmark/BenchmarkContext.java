@@ -0,0 +1,71 @@
+package com.mercadolivre.api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.mercadolivre.api.ApiApplication;
+
+// Boots the application against its embedded H2 without the web layer and, unless asked, without
+// SQL logging, then seeds enough rows for page queries to do real work
+final class BenchmarkContext {
+
+    static final int SEEDED_PRODUCTS = 10_000;
+
+    // Seeded ids start above data.sql and the sequence's first blocks, so benchmarks that create products do not collide
+    private static final long FIRST_SEEDED_ID = 1_000_000_000L;
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start() {
+        return start(SEEDED_PRODUCTS);
+    }
+
+    static ConfigurableApplicationContext start(int products, String... properties) {
+        return start(true, products, properties);
+    }
+
+    // Keeps the logging the active profile configures, for benchmarks that measure logging itself
+    static ConfigurableApplicationContext startWithLogging(int products, String... properties) {
+        return start(false, products, properties);
+    }
+
+    private static ConfigurableApplicationContext start(boolean quiet, int products, String... properties) {
+        // Passed as command-line arguments: builder properties are defaults and application.yml would override them
+        List<String> args = new ArrayList<>(List.of("--spring.datasource.url=jdbc:h2:mem:benchmark"));
+        if (quiet) {
+            args.addAll(List.of(
+                "--logging.level.root=WARN",
+                "--logging.level.com.mercadolivre.api=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        }
+        for (String property : properties) {
+            args.add("--" + property);
+        }
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args.toArray(String[]::new));
+
+        // Plain JDBC batches: saveAll would keep every entity in one persistence context
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (int i = 0; i < products; i++) {
+            // Prices spread over 1.00..10000.99 in an order unrelated to the id
+            BigDecimal price = BigDecimal.valueOf(100 + (i * 7919L) % 1_000_000, 2);
+            batch.add(new Object[] {FIRST_SEEDED_ID + i, "Benchmark product " + i, "Seeded for JMH", price});
+            if (batch.size() == SEED_BATCH_SIZE || i == products - 1) {
+                jdbc.batchUpdate("INSERT INTO products (id, name, description, price) VALUES (?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+        return context;
+    }
+}
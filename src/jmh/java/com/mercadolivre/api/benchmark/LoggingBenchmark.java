@@ -0,0 +1,70 @@
+package com.mercadolivre.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
+import com.mercadolivre.api.service.ProductService;
+
+// Service throughput under the default logging (synchronous console, application DEBUG, formatted
+// SQL) and under the prod profile (async JSON lines, INFO, sampled read logs). Log output goes to
+// the fork's stdout, which JMH pipes to the runner much like a container runtime collects it.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    @Param({"default", "prod"})
+    private String profile;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private Cache products;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.startWithLogging(BenchmarkContext.SEEDED_PRODUCTS, "spring.profiles.active=" + profile);
+        productService = context.getBean(ProductService.class);
+        products = context.getBean(CacheManager.class).getCache("products");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO getProductById_CacheMiss() {
+        products.evict(PRODUCT_ID);
+        return productService.getProductById(PRODUCT_ID);
+    }
+
+    @Benchmark
+    public ProductSliceResponseDTO getProductsAfter_FirstSlice() {
+        return productService.getProductsAfter(null, 20, "price", Sort.Direction.ASC);
+    }
+}
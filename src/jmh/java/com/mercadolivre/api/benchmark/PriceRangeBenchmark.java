@@ -0,0 +1,86 @@
+package com.mercadolivre.api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceIndex;
+import com.mercadolivre.api.service.ProductPriceIndex;
+
+// Most expensive 20 products in a price range over 1M rows: ids from the in-memory index versus
+// the (price, id) database index, which also loads the entities and counts the range
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class PriceRangeBenchmark {
+
+    private static final int PRODUCTS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+
+    // Prices are spread uniformly over 1.00..10000.99, so narrow matches ~1% of the catalog and wide ~50%
+    @Param({"narrow", "wide"})
+    private String range;
+
+    @Param({"0", "500"})
+    private int page;
+
+    private ConfigurableApplicationContext context;
+    private ProductPriceIndex priceIndex;
+    private ProductRepository productRepository;
+    private TransactionTemplate readOnlyTransaction;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    private PageRequest request;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start(PRODUCTS, "products.price-index.enabled=true");
+        priceIndex = context.getBean(ProductPriceIndex.class);
+        priceIndex.rebuildIndex();
+        productRepository = context.getBean(ProductRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        minPrice = new BigDecimal("1000.00");
+        maxPrice = "narrow".equals(range) ? new BigDecimal("1100.00") : new BigDecimal("6000.00");
+        request = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "price").and(Sort.by(Sort.Direction.DESC, "id")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PriceIndex.Result inMemoryIndex() {
+        return priceIndex.range(minPrice, maxPrice, true, (int) request.getOffset(), PAGE_SIZE).orElseThrow();
+    }
+
+    @Benchmark
+    public Page<Product> databaseIndex() {
+        return readOnlyTransaction.execute(status -> productRepository.findByPriceRange(minPrice, maxPrice, request));
+    }
+}
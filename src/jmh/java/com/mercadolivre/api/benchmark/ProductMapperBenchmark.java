@@ -0,0 +1,54 @@
+package com.mercadolivre.api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    private ProductMapper mapper;
+    private Product product;
+    private ProductRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        mapper = new ProductMapper();
+        product = new Product();
+        product.setId(1L);
+        product.setName("Notebook");
+        product.setDescription("Dell Inspiron 15");
+        product.setPrice(new BigDecimal("3500.00"));
+        request = new ProductRequestDTO("Notebook", "Dell Inspiron 15", new BigDecimal("3500.00"));
+    }
+
+    @Benchmark
+    public ProductResponseDTO toDto() {
+        return mapper.toDto(product);
+    }
+
+    @Benchmark
+    public Product toEntity() {
+        return mapper.toEntity(request);
+    }
+}
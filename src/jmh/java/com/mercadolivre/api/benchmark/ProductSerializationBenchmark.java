@@ -0,0 +1,72 @@
+package com.mercadolivre.api.benchmark;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private ProductResponseDTO product;
+
+    @Setup
+    public void setUp() {
+        // Same defaults Spring MVC applies to the ObjectMapper used for responses
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        product = new ProductResponseDTO(1L, "Notebook", "Dell Inspiron 15", new BigDecimal("3500.00"));
+    }
+
+    @Benchmark
+    public byte[] serializeProduct() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] serializePage(PageState state) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(state.page);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"10", "50", "100"})
+        private int pageSize;
+
+        private Page<ProductResponseDTO> page;
+
+        @Setup
+        public void setUp() {
+            List<ProductResponseDTO> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new ProductResponseDTO(id, "Product " + id, "Description " + id, BigDecimal.valueOf(id * 100, 2)))
+                .toList();
+            page = new PageImpl<>(content, PageRequest.of(0, pageSize), BenchmarkContext.SEEDED_PRODUCTS);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mercadolivre.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.service.ProductService;
+
+// Miss benchmarks evict the entry inside the measured call, so they include one cache eviction
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private Cache products;
+    private Cache productPages;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkContext.start();
+        productService = context.getBean(ProductService.class);
+        CacheManager cacheManager = context.getBean(CacheManager.class);
+        products = cacheManager.getCache("products");
+        productPages = cacheManager.getCache("productPages");
+        productService.getProductById(PRODUCT_ID);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDTO getProductById_CacheHit() {
+        return productService.getProductById(PRODUCT_ID);
+    }
+
+    @Benchmark
+    public ProductResponseDTO getProductById_CacheMiss() {
+        products.evict(PRODUCT_ID);
+        return productService.getProductById(PRODUCT_ID);
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> getAllProducts_CacheHit(PageState page) {
+        return productService.getAllProducts(page.request);
+    }
+
+    @Benchmark
+    public Page<ProductResponseDTO> getAllProducts_CacheMiss(PageState page) {
+        productPages.clear();
+        return productService.getAllProducts(page.request);
+    }
+
+    @State(Scope.Benchmark)
+    public static class PageState {
+
+        @Param({"10", "50", "100"})
+        private int pageSize;
+
+        private PageRequest request;
+
+        @Setup
+        public void setUp() {
+            request = PageRequest.of(0, pageSize);
+        }
+    }
+}
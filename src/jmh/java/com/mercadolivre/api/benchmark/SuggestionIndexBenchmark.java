@@ -0,0 +1,94 @@
+package com.mercadolivre.api.benchmark;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mercadolivre.api.search.SuggestionIndex;
+
+// Keystroke lookups and a rename against an index of synthetic product names. Names mix a type,
+// a brand, attributes, a model code and made-up words, so the vocabulary grows with the catalog
+// the way real listings do instead of repeating a handful of words.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SuggestionIndexBenchmark {
+
+    private static final String[] TYPES = {
+        "Teclado", "Mouse", "Monitor", "Notebook", "Cabo", "Fone de Ouvido", "Carregador", "Suporte", "Cadeira",
+        "Webcam", "Microfone", "Headset", "Impressora", "Roteador", "SSD", "Memória RAM", "Placa de Vídeo",
+        "Smartphone", "Tablet", "Caixa de Som", "Hub USB", "Mousepad", "Estabilizador", "Nobreak", "Smartwatch"
+    };
+    private static final String[] BRANDS = {
+        "Logitech", "Dell", "LG", "Samsung", "Redragon", "HyperX", "Razer", "Corsair", "Kingston", "Lenovo",
+        "Asus", "Acer", "Philips", "JBL", "Sony", "Multilaser", "Intelbras", "TP-Link", "Xiaomi", "Motorola"
+    };
+    private static final String[] ATTRIBUTES = {
+        "Mecânico", "Sem Fio", "Bluetooth", "Gamer", "RGB", "Preto", "Branco", "USB-C", "4K", "Full HD",
+        "Ergonômico", "Portátil", "Slim", "Pro", "Ultra", "Compacto", "ABNT2", "110V", "Bivolt", "Rápido"
+    };
+    private static final String LETTERS = "abcdefghijklmnopqrstuvwxyz";
+
+    @Param({"100000"})
+    private int products;
+
+    @Param({"t", "tecl", "teclado mec"})
+    private String prefix;
+
+    private SuggestionIndex index;
+    private long renamedId;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 1; id <= products; id++) {
+            names.put(id, name(random));
+        }
+        index = new SuggestionIndex();
+        index.upsertAll(names);
+    }
+
+    static String name(Random random) {
+        StringBuilder name = new StringBuilder()
+            .append(TYPES[random.nextInt(TYPES.length)]).append(' ')
+            .append(ATTRIBUTES[random.nextInt(ATTRIBUTES.length)]).append(' ')
+            .append(BRANDS[random.nextInt(BRANDS.length)]).append(' ')
+            .append((char) ('A' + random.nextInt(26))).append(random.nextInt(10_000));
+        for (int word = random.nextInt(4); word > 0; word--) {
+            name.append(' ');
+            for (int length = 4 + random.nextInt(6); length > 0; length--) {
+                name.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+            }
+        }
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<SuggestionIndex.Suggestion> suggest() {
+        return index.suggest(prefix, SuggestionIndex.MAX_SUGGESTIONS);
+    }
+
+    @Benchmark
+    public void upsert() {
+        renamedId = renamedId % products + 1;
+        index.upsert(renamedId, "Teclado Mecânico Gamer " + renamedId);
+    }
+}
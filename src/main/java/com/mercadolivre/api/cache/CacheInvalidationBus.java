@@ -0,0 +1,10 @@
+package com.mercadolivre.api.cache;
+
+import java.util.function.Consumer;
+
+// Broadcasts cache invalidations between replicas; subscribers only see messages from other nodes
+public interface CacheInvalidationBus {
+    String nodeId();
+    void publish(String cacheName, Object key);
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,16 @@
+package com.mercadolivre.api.cache;
+
+import java.util.Objects;
+
+// A null key means the whole cache was cleared
+public record CacheInvalidationMessage(String originNodeId, String cacheName, Object key) {
+
+    public CacheInvalidationMessage {
+        Objects.requireNonNull(originNodeId, "Origin node cannot be null");
+        Objects.requireNonNull(cacheName, "Cache name cannot be null");
+    }
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
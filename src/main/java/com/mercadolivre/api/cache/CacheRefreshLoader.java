@@ -0,0 +1,7 @@
+package com.mercadolivre.api.cache;
+
+// Reloads a single entry of the named cache in the background; returning null drops the entry
+public interface CacheRefreshLoader {
+    String cacheName();
+    Object load(Object key);
+}
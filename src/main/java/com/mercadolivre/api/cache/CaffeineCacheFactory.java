@@ -0,0 +1,36 @@
+package com.mercadolivre.api.cache;
+
+import java.util.Map;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.StringUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Builds each local cache from its own Caffeine spec, falling back to the shared default spec
+public class CaffeineCacheFactory {
+
+    private final String defaultSpec;
+    private final Map<String, String> specs;
+    private final Map<String, CacheRefreshLoader> refreshLoaders;
+
+    public CaffeineCacheFactory(String defaultSpec, Map<String, String> specs, Map<String, CacheRefreshLoader> refreshLoaders) {
+        this.defaultSpec = defaultSpec;
+        this.specs = Map.copyOf(specs);
+        this.refreshLoaders = Map.copyOf(refreshLoaders);
+    }
+
+    public CaffeineCache create(String name) {
+        String spec = specs.getOrDefault(name, defaultSpec);
+        Caffeine<Object, Object> builder = StringUtils.hasText(spec) ? Caffeine.from(spec) : Caffeine.newBuilder();
+        if (spec == null || !spec.contains("refreshAfterWrite")) {
+            return new CaffeineCache(name, builder.build());
+        }
+
+        CacheRefreshLoader loader = refreshLoaders.get(name);
+        if (loader == null) {
+            throw new IllegalStateException("Cache " + name + " uses refreshAfterWrite but has no CacheRefreshLoader");
+        }
+        return RefreshAheadCaffeineCache.create(name, builder, loader);
+    }
+}
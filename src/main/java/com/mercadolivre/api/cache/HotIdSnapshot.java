@@ -0,0 +1,59 @@
+package com.mercadolivre.api.cache;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+// Ids in priority order, one per line. Written to a sibling file and moved into place, so a
+// reader never sees a half-written snapshot.
+public class HotIdSnapshot {
+
+    private final Path file;
+
+    public HotIdSnapshot(Path file) {
+        this.file = file;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public List<Long> read() throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                try {
+                    ids.add(Long.valueOf(trimmed));
+                } catch (NumberFormatException e) {
+                    // Skipped: a bad line should not cost the whole warm-up
+                }
+            }
+        }
+        return ids;
+    }
+
+    public void write(Collection<Long> ids) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, ids.stream().map(String::valueOf).toList());
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.mercadolivre.api.cache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// In-process stand-in for a pub/sub channel: buses created through connect() share the
+// channel and behave like separate replicas, which is enough for a single node and for tests
+public class InMemoryCacheInvalidationBus implements CacheInvalidationBus {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryCacheInvalidationBus.class);
+
+    private record Subscription(String nodeId, Consumer<CacheInvalidationMessage> listener) {}
+
+    private final String nodeId;
+    private final List<Subscription> channel;
+
+    public InMemoryCacheInvalidationBus(String nodeId) {
+        this(nodeId, new CopyOnWriteArrayList<>());
+    }
+
+    private InMemoryCacheInvalidationBus(String nodeId, List<Subscription> channel) {
+        this.nodeId = Objects.requireNonNull(nodeId, "Node ID cannot be null");
+        this.channel = channel;
+    }
+
+    public InMemoryCacheInvalidationBus connect(String otherNodeId) {
+        return new InMemoryCacheInvalidationBus(otherNodeId, channel);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void publish(String cacheName, Object key) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName, key);
+        for (Subscription subscription : channel) {
+            if (subscription.nodeId().equals(nodeId)) {
+                continue;
+            }
+            try {
+                subscription.listener().accept(message);
+            } catch (RuntimeException ex) {
+                log.warn("Cache invalidation listener on node {} failed: {}", subscription.nodeId(), ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        channel.add(new Subscription(nodeId, Objects.requireNonNull(listener, "Listener cannot be null")));
+    }
+}
@@ -0,0 +1,58 @@
+package com.mercadolivre.api.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+// In-process stand-in for a shared store such as Redis, used when no remote store bean is provided
+public class InMemoryRemoteCacheStore implements RemoteCacheStore {
+
+    private record Entry(Object value, long expiresAtMillis) {}
+
+    private final Map<String, Map<Object, Entry>> caches = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    public InMemoryRemoteCacheStore() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryRemoteCacheStore(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    @Override
+    public Object get(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        Entry entry = cache == null ? null : cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMillis() <= clock.millis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        Objects.requireNonNull(value, "Cached value cannot be null");
+        caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>())
+            .put(key, new Entry(value, clock.millis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        Map<Object, Entry> cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.remove(key);
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        caches.remove(cacheName);
+    }
+}
@@ -0,0 +1,35 @@
+package com.mercadolivre.api.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mercadolivre.api.event.ProductChangedEvent;
+
+// Part of every productPages cache key: bumping it after a committed write makes all
+// cached list pages unreachable at once, and Caffeine's size/TTL bounds evict them later.
+// Other replicas are told to drop their pages through the invalidation bus, when there is one.
+@Component("productCacheGeneration")
+public class ProductCacheGeneration {
+
+    public static final String PRODUCT_PAGES_CACHE = "productPages";
+
+    private final AtomicLong generation = new AtomicLong();
+    private final ObjectProvider<CacheInvalidationBus> invalidationBus;
+
+    public ProductCacheGeneration(ObjectProvider<CacheInvalidationBus> invalidationBus) {
+        this.invalidationBus = invalidationBus;
+    }
+
+    public long current() {
+        return generation.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+        invalidationBus.ifAvailable(bus -> bus.publish(PRODUCT_PAGES_CACHE, null));
+    }
+}
@@ -0,0 +1,66 @@
+package com.mercadolivre.api.cache;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Policy;
+
+// Stale-while-revalidate on top of Caffeine's refreshAfterWrite: a read of an entry older than
+// the refresh interval returns the current value at once and reloads it in the background.
+// Misses are not loaded here, they still go through the @Cacheable method.
+public class RefreshAheadCaffeineCache extends CaffeineCache {
+
+    private final LongAdder refreshes;
+    private final LongAdder staleServed = new LongAdder();
+    private final Optional<Policy.FixedRefresh<Object, Object>> refreshPolicy;
+
+    private RefreshAheadCaffeineCache(String name, LoadingCache<Object, Object> cache, LongAdder refreshes) {
+        super(name, cache);
+        this.refreshes = refreshes;
+        this.refreshPolicy = cache.policy().refreshAfterWrite();
+    }
+
+    public static RefreshAheadCaffeineCache create(String name, Caffeine<Object, Object> builder, CacheRefreshLoader loader) {
+        LongAdder refreshes = new LongAdder();
+        LoadingCache<Object, Object> cache = builder.build(new CacheLoader<>() {
+            @Override
+            public Object load(Object key) {
+                return loader.load(key);
+            }
+
+            @Override
+            public Object reload(Object key, Object oldValue) {
+                refreshes.increment();
+                return loader.load(key);
+            }
+        });
+        return new RefreshAheadCaffeineCache(name, cache, refreshes);
+    }
+
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    public long staleServedCount() {
+        return staleServed.sum();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        boolean stale = refreshPolicy
+            .map(policy -> policy.ageOf(key, TimeUnit.NANOSECONDS).orElse(0L) >= policy.getRefreshesAfter(TimeUnit.NANOSECONDS))
+            .orElse(false);
+        // getIfPresent schedules the refresh of a stale entry without blocking the caller
+        Object value = getNativeCache().getIfPresent(key);
+        if (value != null && stale) {
+            staleServed.increment();
+        }
+        return value;
+    }
+}
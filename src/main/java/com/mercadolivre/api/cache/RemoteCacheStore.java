@@ -0,0 +1,27 @@
+package com.mercadolivre.api.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+// Shared second-level cache tier; get returns null when the key is absent
+public interface RemoteCacheStore {
+    Object get(String cacheName, Object key);
+
+    // Stores with a native multi-get (e.g. MGET) should override this to fetch in one round trip
+    default Map<Object, Object> getAll(String cacheName, Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        for (Object key : keys) {
+            Object value = get(cacheName, key);
+            if (value != null) {
+                found.put(key, value);
+            }
+        }
+        return found;
+    }
+
+    void put(String cacheName, Object key, Object value, Duration ttl);
+    void evict(String cacheName, Object key);
+    void clear(String cacheName);
+}
@@ -0,0 +1,152 @@
+package com.mercadolivre.api.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+// Local Caffeine L1 in front of an optional shared L2. Writes go to both tiers and are
+// broadcast so other replicas drop their L1 copy and re-read the shared value.
+public class TwoTierCache implements Cache {
+
+    private final CaffeineCache local;
+    private final RemoteCacheStore remote;
+    private final CacheInvalidationBus bus;
+    private final Duration remoteTtl;
+
+    public TwoTierCache(CaffeineCache local, RemoteCacheStore remote, CacheInvalidationBus bus, Duration remoteTtl) {
+        this.local = local;
+        this.remote = remote;
+        this.bus = bus;
+        this.remoteTtl = remoteTtl;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getNativeCache() {
+        return local.getNativeCache();
+    }
+
+    public CaffeineCache getLocalCache() {
+        return local;
+    }
+
+    public boolean isRemoteEnabled() {
+        return remote != null;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper hit = local.get(key);
+        if (hit != null || remote == null) {
+            return hit;
+        }
+        Object value = remote.get(getName(), key);
+        if (value == null) {
+            return null;
+        }
+        local.put(key, value);
+        return new SimpleValueWrapper(value);
+    }
+
+    // Local hits first, then a single multi-get against the shared tier for the rest
+    public Map<Object, Object> getAll(Collection<?> keys) {
+        Map<Object, Object> found = new HashMap<>();
+        List<Object> localMisses = new ArrayList<>();
+        for (Object key : keys) {
+            ValueWrapper hit = local.get(key);
+            if (hit != null && hit.get() != null) {
+                found.put(key, hit.get());
+            } else {
+                localMisses.add(key);
+            }
+        }
+        if (remote != null && !localMisses.isEmpty()) {
+            remote.getAll(getName(), localMisses).forEach((key, value) -> {
+                local.put(key, value);
+                found.put(key, value);
+            });
+        }
+        return found;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return local.get(key, () -> {
+            if (remote != null) {
+                Object shared = remote.get(getName(), key);
+                if (shared != null) {
+                    return (T) shared;
+                }
+            }
+            T loaded = valueLoader.call();
+            if (remote != null && loaded != null) {
+                remote.put(getName(), key, loaded, remoteTtl);
+            }
+            return loaded;
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        local.put(key, value);
+        if (remote != null) {
+            if (value != null) {
+                remote.put(getName(), key, value, remoteTtl);
+            } else {
+                remote.evict(getName(), key);
+            }
+        }
+        bus.publish(getName(), key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.evict(key);
+        if (remote != null) {
+            remote.evict(getName(), key);
+        }
+        bus.publish(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+        if (remote != null) {
+            remote.clear(getName());
+        }
+        bus.publish(getName(), null);
+    }
+
+    void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            local.clear();
+        } else {
+            local.evict(message.key());
+        }
+    }
+}
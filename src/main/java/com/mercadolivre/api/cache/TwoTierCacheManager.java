@@ -0,0 +1,62 @@
+package com.mercadolivre.api.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final CaffeineCacheFactory localCacheFactory;
+    private final Set<String> remoteCacheNames;
+    private final RemoteCacheStore remoteStore;
+    private final CacheInvalidationBus bus;
+    private final Duration remoteTtl;
+
+    // A null remoteStore keeps every cache node-local
+    public TwoTierCacheManager(CaffeineCacheFactory localCacheFactory, Collection<String> cacheNames,
+            Set<String> remoteCacheNames, RemoteCacheStore remoteStore, CacheInvalidationBus bus, Duration remoteTtl) {
+        this.localCacheFactory = localCacheFactory;
+        this.remoteCacheNames = Set.copyOf(remoteCacheNames);
+        this.remoteStore = remoteStore;
+        this.bus = bus;
+        this.remoteTtl = remoteTtl;
+        cacheNames.forEach(this::getCache);
+        bus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoTierCache createCache(String name) {
+        // Caches outside the remote set stay node-local but still broadcast and honour invalidations
+        RemoteCacheStore remote = remoteCacheNames.contains(name) ? remoteStore : null;
+        return new TwoTierCache(localCacheFactory.create(name), remote, bus, remoteTtl);
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        TwoTierCache cache = caches.get(message.cacheName());
+        if (cache != null) {
+            log.debug("Invalidating local cache {} from node {}: key={}",
+                message.cacheName(), message.originNodeId(), message.key());
+            cache.onRemoteInvalidation(message);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mercadolivre.api.config;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import com.mercadolivre.api.cache.CacheInvalidationBus;
+import com.mercadolivre.api.cache.CacheRefreshLoader;
+import com.mercadolivre.api.cache.CaffeineCacheFactory;
+import com.mercadolivre.api.cache.InMemoryCacheInvalidationBus;
+import com.mercadolivre.api.cache.InMemoryRemoteCacheStore;
+import com.mercadolivre.api.cache.RefreshAheadCaffeineCache;
+import com.mercadolivre.api.cache.RemoteCacheStore;
+import com.mercadolivre.api.cache.TwoTierCache;
+import com.mercadolivre.api.cache.TwoTierCacheManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    private static final String SPEC_PROPERTY_PREFIX = "products.cache.specs.";
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(name = "products.cache.l2.enabled", havingValue = "true")
+    public RemoteCacheStore remoteCacheStore() {
+        return new InMemoryRemoteCacheStore();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public CacheInvalidationBus cacheInvalidationBus(@Value("${products.cache.node-id:}") String nodeId) {
+        return new InMemoryCacheInvalidationBus(StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString());
+    }
+
+    @Bean
+    public CacheManager cacheManager(
+            CacheProperties cacheProperties,
+            Environment environment,
+            ObjectProvider<RemoteCacheStore> remoteCacheStore,
+            CacheInvalidationBus cacheInvalidationBus,
+            List<CacheRefreshLoader> refreshLoaders,
+            @Value("${products.cache.l2.cache-names:products}") List<String> remoteCacheNames,
+            @Value("${products.cache.l2.ttl:30m}") Duration remoteTtl) {
+        // products.cache.specs.<name> overrides spring.cache.caffeine.spec for a single cache
+        Map<String, String> specs = cacheProperties.getCacheNames().stream()
+            .filter(name -> environment.containsProperty(SPEC_PROPERTY_PREFIX + name))
+            .collect(Collectors.toMap(Function.identity(), name -> environment.getProperty(SPEC_PROPERTY_PREFIX + name)));
+        Map<String, CacheRefreshLoader> loaders = refreshLoaders.stream()
+            .collect(Collectors.toMap(CacheRefreshLoader::cacheName, Function.identity()));
+
+        CaffeineCacheFactory localCacheFactory = new CaffeineCacheFactory(cacheProperties.getCaffeine().getSpec(), specs, loaders);
+        return new TwoTierCacheManager(localCacheFactory, cacheProperties.getCacheNames(), new HashSet<>(remoteCacheNames),
+            remoteCacheStore.getIfAvailable(), cacheInvalidationBus, remoteTtl);
+    }
+
+    @Bean
+    public CacheMeterBinderProvider<TwoTierCache> twoTierCacheMeterBinderProvider() {
+        return (cache, tags) -> registry -> {
+            new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags).bindTo(registry);
+            if (cache.getLocalCache() instanceof RefreshAheadCaffeineCache refreshing) {
+                FunctionCounter.builder("cache.refreshes", refreshing, RefreshAheadCaffeineCache::refreshCount)
+                    .description("Background reloads triggered by refreshAfterWrite")
+                    .tags(tags)
+                    .tag("cache", cache.getName())
+                    .register(registry);
+                FunctionCounter.builder("cache.stale.served", refreshing, RefreshAheadCaffeineCache::staleServedCount)
+                    .description("Reads answered with a value that was due for refresh")
+                    .tags(tags)
+                    .tag("cache", cache.getName())
+                    .register(registry);
+            }
+        };
+    }
+}
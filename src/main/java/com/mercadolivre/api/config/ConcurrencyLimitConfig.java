@@ -0,0 +1,46 @@
+package com.mercadolivre.api.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.mercadolivre.api.interceptor.ConcurrencyLimitInterceptor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@ConditionalOnExpression("${products.concurrency.enabled:false} "
+    + "&& ${products.concurrency.max-requests:${spring.datasource.hikari.maximum-pool-size:10}} > 0")
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    // Bulk transfers stream for minutes and would hold a slot, and the connection behind it, the whole time
+    static final String[] EXCLUDED_PATHS = {"/api/v1/products/import", "/api/v1/products/export"};
+
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+
+    public ConcurrencyLimitConfig(
+            @Value("${products.concurrency.max-requests:${spring.datasource.hikari.maximum-pool-size:10}}") int maxRequests,
+            @Value("${products.concurrency.acquire-timeout:500ms}") Duration acquireTimeout) {
+        this.concurrencyLimitInterceptor = new ConcurrencyLimitInterceptor(maxRequests, acquireTimeout);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(concurrencyLimitInterceptor).addPathPatterns("/api/**")
+            .excludePathPatterns(EXCLUDED_PATHS);
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics() {
+        return registry -> Gauge.builder("http.server.requests.permits.available", concurrencyLimitInterceptor,
+                ConcurrencyLimitInterceptor::availablePermits)
+            .description("Free slots of the concurrent request limit")
+            .register(registry);
+    }
+}
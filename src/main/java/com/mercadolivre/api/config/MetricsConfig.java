@@ -0,0 +1,55 @@
+package com.mercadolivre.api.config;
+
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.mercadolivre.api.interceptor.QueryMetricsInterceptor;
+import com.mercadolivre.api.metrics.MethodTimingInterceptor;
+import com.mercadolivre.api.service.ProductService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    public static final String PRODUCT_SERVICE_METRIC = "products.service";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Web slice tests load this configurer without the metrics auto-configuration
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        meterRegistry.ifAvailable(meters ->
+            registry.addInterceptor(new QueryMetricsInterceptor(meters)).addPathPatterns("/api/**"));
+    }
+
+    // Wraps the finished bean, outside the cache and transaction proxies, so cache hits are timed too.
+    // The registry is looked up lazily: a post-processor that depends on it would initialize it too early.
+    @Bean
+    public static BeanPostProcessor productServiceTimer(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof ProductService)) {
+                    return bean;
+                }
+                // Only ProductService is proxied, not the CGLIB interfaces of the bean, so the
+                // native image can declare the proxy ahead of time (NativeHintsConfig)
+                ProxyFactory proxy = new ProxyFactory();
+                proxy.setTarget(bean);
+                proxy.setInterfaces(ProductService.class);
+                proxy.addAdvice(new MethodTimingInterceptor(meterRegistry::getObject, PRODUCT_SERVICE_METRIC));
+                return proxy.getProxy();
+            }
+        };
+    }
+}
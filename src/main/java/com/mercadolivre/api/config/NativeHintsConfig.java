@@ -0,0 +1,78 @@
+package com.mercadolivre.api.config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.regex.Pattern;
+
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.logging.JsonLineLayout;
+import com.mercadolivre.api.logging.SamplingTurboFilter;
+import com.mercadolivre.api.metrics.JdbcTimingSessionListener;
+import com.mercadolivre.api.service.ProductService;
+
+// Reflection the AOT engine cannot infer from bean definitions, needed by the native image (-Pnative).
+// On the JVM the hints are never read.
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.ApiRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static final String CAFFEINE_PACKAGE = "com.github.benmanes.caffeine.cache";
+
+    // Caffeine's generated cache and node classes have upper-case abbreviated names (SSMSW, PSAMS, ...)
+    private static final Pattern CAFFEINE_GENERATED_CLASS = Pattern.compile("[A-Z]+\\.class");
+
+    static class ApiRuntimeHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Instantiated by Hibernate from hibernate.session.events.auto
+            hints.reflection().registerType(JdbcTimingSessionListener.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+            // JPQL constructor expression in ProductRepository.findDtoById
+            hints.reflection().registerType(ProductResponseDTO.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+            // Only referenced from the prod block of logback-spring.xml, which is inactive at build time
+            hints.reflection().registerType(SamplingTurboFilter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            hints.reflection().registerType(JsonLineLayout.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+            // JDK proxy created at runtime by MetricsConfig.productServiceTimer
+            hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(ProductService.class));
+
+            // Swagger UI static assets served by springdoc
+            hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/*/*");
+
+            registerCaffeineClasses(hints, classLoader);
+        }
+
+        // Caffeine picks the class for a spec by name at runtime, and the specs can be overridden
+        // per deployment (PRODUCTS_CACHE_SPEC), so all of them are registered.
+        private void registerCaffeineClasses(RuntimeHints hints, ClassLoader classLoader) {
+            try {
+                Resource[] classes = new PathMatchingResourcePatternResolver(classLoader)
+                    .getResources("classpath*:" + CAFFEINE_PACKAGE.replace('.', '/') + "/*.class");
+                for (Resource resource : classes) {
+                    String fileName = resource.getFilename();
+                    if (fileName != null && CAFFEINE_GENERATED_CLASS.matcher(fileName).matches()) {
+                        String className = CAFFEINE_PACKAGE + "." + fileName.substring(0, fileName.length() - ".class".length());
+                        hints.reflection().registerType(TypeReference.of(className),
+                            MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not list Caffeine classes", e);
+            }
+        }
+    }
+}
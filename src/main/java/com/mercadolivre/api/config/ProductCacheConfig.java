@@ -0,0 +1,50 @@
+package com.mercadolivre.api.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mercadolivre.api.cache.SingleFlight;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.service.MissingProductCache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class ProductCacheConfig {
+
+    @Bean
+    public SingleFlight<Long, ProductResponseDTO> productLoads() {
+        return new SingleFlight<>();
+    }
+
+    @Bean
+    public MeterBinder productLoadMetrics(SingleFlight<Long, ProductResponseDTO> productLoads) {
+        return registry -> {
+            FunctionCounter.builder("cache.loads.coalesced", productLoads, SingleFlight::coalescedCount)
+                .description("Callers that waited for an in-flight load of the same key instead of querying the database")
+                .tag("cache", "products")
+                .register(registry);
+            FunctionCounter.builder("cache.loads.executed", productLoads, SingleFlight::loadCount)
+                .description("Database loads executed after a cache miss")
+                .tag("cache", "products")
+                .register(registry);
+            // Misses load through the SingleFlight, not a Caffeine loader, so CaffeineCacheMetrics' cache.load only sees refreshes
+            FunctionTimer.builder("cache.load", productLoads, SingleFlight::loadCount, SingleFlight::totalLoadNanos, TimeUnit.NANOSECONDS)
+                .description("Time spent loading products from the database after a cache miss")
+                .tag("cache", "products")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder missingProductMetrics(MissingProductCache missingProducts) {
+        return registry -> FunctionCounter.builder("cache.id.filter.rejections", missingProducts, MissingProductCache::filterRejectionCount)
+            .description("Lookups answered as not found by the id filter without querying the database")
+            .tag("cache", MissingProductCache.MISSING_PRODUCTS_CACHE)
+            .register(registry);
+    }
+}
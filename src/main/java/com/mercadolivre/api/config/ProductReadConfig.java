@@ -0,0 +1,22 @@
+package com.mercadolivre.api.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class ProductReadConfig {
+
+    // Only cache misses reach these threads, and each one holds a JDBC connection, so the cap
+    // matches Hikari's size and excess reads wait in the bounded queue instead of on threads.
+    // Not an Executor bean on purpose: that would replace Boot's applicationTaskExecutor.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler productReadScheduler(
+            @Value("${products.reads.threads:${spring.datasource.hikari.maximum-pool-size:10}}") int threads,
+            @Value("${products.reads.queue-capacity:10000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "product-read");
+    }
+}
@@ -0,0 +1,109 @@
+package com.mercadolivre.api.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.mercadolivre.api.dto.ProductBatchRequestDTO;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductImportResultDTO;
+import com.mercadolivre.api.importer.ProductImportFormat;
+import com.mercadolivre.api.service.ProductBulkService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products - Bulk", description = "Endpoints for bulk product operations")
+public class ProductBulkController {
+
+    private final ProductBulkService productBulkService;
+    private final Duration exportTimeout;
+
+    public ProductBulkController(ProductBulkService productBulkService,
+            @Value("${products.export.timeout:30m}") Duration exportTimeout) {
+        this.productBulkService = productBulkService;
+        this.exportTimeout = exportTimeout;
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Create, update and delete products in batch",
+        description = "Applies up to " + ProductBatchRequestDTO.MAX_ITEMS + " operations in chunked transactions. "
+            + "Each item is validated independently and the response reports the outcome of every item in request order. "
+            + "A chunk that fails to commit is rolled back and its items are reported as FAILED.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see per-item results"),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch")
+        }
+    )
+    public ResponseEntity<ProductBatchResponseDTO> applyBatch(
+            @Valid @RequestBody ProductBatchRequestDTO batchRequestDTO
+    ) {
+        ProductBatchResponseDTO response = productBulkService.applyBatch(batchRequestDTO.items());
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Export the full catalog",
+        description = "Streams every product as newline-delimited JSON, ordered by ID. "
+            + "Rows are read through a forward-only cursor and written as they arrive, so the export size is not bounded by memory.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Catalog streamed successfully")
+        }
+    )
+    public ResponseEntity<StreamingResponseBody> exportProducts(HttpServletRequest request) {
+        // Only the export outlives spring.mvc.async.request-timeout; the Mono endpoints keep the short default
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeout.toMillis());
+        StreamingResponseBody body = productBulkService::exportProducts;
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("products.ndjson").build().toString())
+            .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Import products from NDJSON",
+        description = "Reads one product per line from the request body without buffering it, validates each line "
+            + "and persists the valid ones in fixed-size chunks. Invalid lines are reported with their line number.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see counts and per-line errors")
+        }
+    )
+    public ResponseEntity<ProductImportResultDTO> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(productBulkService.importProducts(body, ProductImportFormat.NDJSON));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(
+        summary = "Import products from CSV",
+        description = "Same as the NDJSON import for a CSV body whose header contains the columns name, price and optionally description.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see counts and per-line errors"),
+            @ApiResponse(responseCode = "400", description = "Missing or invalid CSV header")
+        }
+    )
+    public ResponseEntity<ProductImportResultDTO> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(productBulkService.importProducts(body, ProductImportFormat.CSV));
+    }
+}
@@ -1,25 +1,35 @@
 package com.mercadolivre.api.controller;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Objects;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
 import com.mercadolivre.api.model.Product;
 import com.mercadolivre.api.service.ProductService;
 
@@ -28,15 +38,20 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 
 @RestController
 @RequestMapping("/api/v1/products")
 @Tag(name = "Products", description = "Endpoints for product management")
 public class ProductController {
 
+    static final String MERGE_PATCH_JSON = "application/merge-patch+json";
+
     private final ProductService productService;
 
     public ProductController(ProductService productService) {
@@ -46,10 +61,13 @@ public class ProductController {
     @GetMapping
     @Operation(
         summary = "List all products with pagination",
-        description = "Returns a paginated list of all products. You can specify the page number, page size, sort field, and sort direction.",
+        description = "Returns a paginated list of all products. You can specify the page number, page size, sort field, and sort direction. "
+            + "Optionally restrict the list to an inclusive price range with minPrice and/or maxPrice. "
+            + "The page carries an ETag, and If-None-Match gets 304 while its products are unchanged.",
         responses = {
             @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
+            @ApiResponse(responseCode = "304", description = "Page not modified"),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination parameters or price range")
         }
     )
     public ResponseEntity<Page<ProductResponseDTO>> getAllProducts(
@@ -63,7 +81,13 @@ public class ProductController {
             @RequestParam(defaultValue = "id") String sortBy,
 
             @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
-            @RequestParam(defaultValue = "ASC") String direction
+            @RequestParam(defaultValue = "ASC") String direction,
+
+            @Parameter(description = "Minimum price, inclusive", example = "100.00")
+            @RequestParam(required = false) @DecimalMin("0.00") BigDecimal minPrice,
+
+            @Parameter(description = "Maximum price, inclusive", example = "500.00")
+            @RequestParam(required = false) @DecimalMin("0.00") BigDecimal maxPrice
     ) {
         Objects.requireNonNull(direction, "Direction cannot be null");
         Objects.requireNonNull(sortBy, "SortBy cannot be null");
@@ -77,16 +101,74 @@ public class ProductController {
         Sort.Direction sortDirection = Sort.Direction.fromString(direction);
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortDirection, sortBy));
 
-        Page<ProductResponseDTO> products = productService.getAllProducts(pageable);
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice must be less than or equal to maxPrice");
+        }
+
+        Page<ProductResponseDTO> products = minPrice == null && maxPrice == null
+            ? productService.getAllProducts(pageable)
+            : productService.getProductsByPriceRange(minPrice, maxPrice, pageable);
+        return ProductETags.withValidators(products);
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get several products by ID",
+        description = "Returns the requested products in request order, resolving cached ones first and loading the rest "
+            + "in a single query. Ids that do not exist are returned with found=false.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Lookup completed"),
+            @ApiResponse(responseCode = "400", description = "Missing, invalid or too many ids (max: 200)")
+        }
+    )
+    public ResponseEntity<ProductMultiGetResponseDTO> getProductsByIds(
+            @Parameter(description = "Comma-separated product IDs (max: 200)", example = "1,2,3")
+            @RequestParam @Size(min = 1, max = ProductMultiGetResponseDTO.MAX_IDS) List<@NotNull @Positive Long> ids
+    ) {
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
+    }
+
+    @GetMapping("/scroll")
+    @Operation(
+        summary = "List products with cursor (keyset) pagination",
+        description = "Returns a slice of products after the given cursor without counting the whole catalog. "
+            + "Omit the cursor to get the first slice and pass the returned nextCursor to get the following one. "
+            + "When a cursor is provided, its sort field and direction take precedence over sortBy and direction.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or pagination parameters")
+        }
+    )
+    public ResponseEntity<ProductSliceResponseDTO> getProductsAfter(
+            @Parameter(description = "Opaque cursor returned by the previous call")
+            @RequestParam(required = false) String after,
+
+            @Parameter(description = "Number of items per slice (max: 100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+
+            @Parameter(description = "Field for sorting (id, name, price)", example = "name")
+            @RequestParam(defaultValue = "id") String sortBy,
+
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String direction
+    ) {
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        Objects.requireNonNull(sortBy, "SortBy cannot be null");
+
+        ProductSliceResponseDTO products = productService.getProductsAfter(
+            after, size, sortBy, Sort.Direction.fromString(direction)
+        );
         return ResponseEntity.ok(products);
     }
 
     @GetMapping("/{id}")
     @Operation(
         summary = "Get product by ID",
-        description = "Returns a single product based on the provided ID",
+        description = "Returns a single product based on the provided ID, with an ETag and Last-Modified. "
+            + "Conditional requests with If-None-Match or If-Modified-Since get 304 when the product is unchanged.",
         responses = {
             @ApiResponse(responseCode = "200", description = "Product found"),
+            @ApiResponse(responseCode = "304", description = "Product not modified"),
             @ApiResponse(responseCode = "404", description = "Product not found")
         }
     )
@@ -95,7 +177,7 @@ public class ProductController {
             @PathVariable @Positive Long id
     ) {
         ProductResponseDTO product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+        return ProductETags.withValidators(HttpStatus.OK, product);
     }
 
     @PostMapping
@@ -111,26 +193,56 @@ public class ProductController {
             @Valid @RequestBody ProductRequestDTO productRequestDTO
     ) {
         ProductResponseDTO createdProduct = productService.createProduct(productRequestDTO);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdProduct);
+        return ProductETags.withValidators(HttpStatus.CREATED, createdProduct);
     }
 
     @PutMapping("/{id}")
     @Operation(
         summary = "Update an existing product",
-        description = "Updates a product with the provided information",
+        description = "Updates a product with the provided information. With If-Match set to an ETag from a "
+            + "previous read the update only applies while the product is still at that version.",
         responses = {
             @ApiResponse(responseCode = "200", description = "Product updated successfully"),
             @ApiResponse(responseCode = "404", description = "Product not found"),
-            @ApiResponse(responseCode = "400", description = "Invalid product data")
+            @ApiResponse(responseCode = "400", description = "Invalid product data"),
+            @ApiResponse(responseCode = "409", description = "Product kept changing concurrently, retry"),
+            @ApiResponse(responseCode = "412", description = "Product changed since the If-Match version")
         }
     )
     public ResponseEntity<ProductResponseDTO> updateProduct(
             @Parameter(description = "Product ID", example = "1")
             @PathVariable @Positive Long id,
+            @Parameter(description = "ETag of the version being replaced", example = "\"1-3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProductRequestDTO productRequestDTO
     ) {
-        ProductResponseDTO updatedProduct = productService.updateProduct(id, productRequestDTO);
-        return ResponseEntity.ok(updatedProduct);
+        ProductResponseDTO updatedProduct = productService.updateProduct(
+            id, productRequestDTO, ProductETags.expectedVersion(id, ifMatch));
+        return ProductETags.withValidators(HttpStatus.OK, updatedProduct);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {ProductController.MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(
+        summary = "Partially update a product",
+        description = "Applies a JSON Merge Patch: only the fields present are changed and a null description "
+            + "clears it. Accepts If-Match like PUT.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Product updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Product not found"),
+            @ApiResponse(responseCode = "400", description = "Invalid patch"),
+            @ApiResponse(responseCode = "412", description = "Product changed since the If-Match version")
+        }
+    )
+    public ResponseEntity<ProductResponseDTO> patchProduct(
+            @Parameter(description = "Product ID", example = "1")
+            @PathVariable @Positive Long id,
+            @Parameter(description = "ETag of the version being changed", example = "\"1-3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch
+    ) {
+        ProductResponseDTO patchedProduct = productService.patchProduct(
+            id, ProductPatchDTO.fromJson(patch), ProductETags.expectedVersion(id, ifMatch));
+        return ProductETags.withValidators(HttpStatus.OK, patchedProduct);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,84 @@
+package com.mercadolivre.api.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.exception.PreconditionFailedException;
+
+// Strong validators built from the entity version, so they come straight from the cached DTOs.
+// GET/HEAD responses carrying them are turned into 304s by Spring before the body is serialized.
+final class ProductETags {
+
+    private ProductETags() {
+    }
+
+    static String of(ProductResponseDTO product) {
+        if (product == null || product.id() == null || product.version() == null) {
+            return null;
+        }
+        return "\"" + product.id() + "-" + product.version() + "\"";
+    }
+
+    // Covers the page position and every product's version; a delete changes the total or the content
+    static String of(Page<ProductResponseDTO> page) {
+        StringBuilder key = new StringBuilder()
+            .append(page.getNumber()).append(':')
+            .append(page.getSize()).append(':')
+            .append(page.getSort()).append(':')
+            .append(page.getTotalElements());
+        for (ProductResponseDTO product : page.getContent()) {
+            if (product.version() == null) {
+                return null;
+            }
+            key.append(';').append(product.id()).append('-').append(product.version());
+        }
+        return "\"p-" + DigestUtils.md5DigestAsHex(key.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // The version an If-Match header pins for this product; no header or "*" pins none.
+    // If-Match uses strong comparison, so weak tags and tags of other products never match.
+    static Long expectedVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String prefix = "\"" + id + "-";
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(prefix) && candidate.endsWith("\"") && candidate.length() > prefix.length() + 1) {
+                try {
+                    return Long.parseLong(candidate.substring(prefix.length(), candidate.length() - 1));
+                } catch (NumberFormatException e) {
+                    // not one of ours, keep looking
+                }
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version of product " + id);
+    }
+
+    static ResponseEntity<ProductResponseDTO> withValidators(HttpStatus status, ProductResponseDTO product) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        String etag = of(product);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (product != null && product.updatedAt() != null) {
+            response.lastModified(product.updatedAt());
+        }
+        return response.body(product);
+    }
+
+    // No Last-Modified for pages: a delete would not move it forward
+    static ResponseEntity<Page<ProductResponseDTO>> withValidators(Page<ProductResponseDTO> page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        String etag = of(page);
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(page);
+    }
+}
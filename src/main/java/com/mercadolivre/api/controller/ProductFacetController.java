@@ -0,0 +1,52 @@
+package com.mercadolivre.api.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mercadolivre.api.dto.ProductFacetsDTO;
+import com.mercadolivre.api.service.ProductFacetService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+@RestController
+@RequestMapping("/api/v1/products/facets")
+@Tag(name = "Products - Facets", description = "Endpoints for catalog aggregations")
+public class ProductFacetController {
+
+    private final ProductFacetService productFacetService;
+
+    public ProductFacetController(ProductFacetService productFacetService) {
+        this.productFacetService = productFacetService;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "Get catalog facets",
+        description = "Returns the total number of products and a price histogram. Counts are kept up to date on every write "
+            + "and served from memory without scanning the table.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Facets retrieved successfully")
+        }
+    )
+    public ResponseEntity<ProductFacetsDTO> getFacets() {
+        return ResponseEntity.ok(productFacetService.getFacets());
+    }
+
+    @PostMapping("/rebuild")
+    @Operation(
+        summary = "Recount catalog facets",
+        description = "Recounts every product from the database and replaces the counters. Use it to reconcile after writes "
+            + "made outside this instance.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Facets recounted")
+        }
+    )
+    public ResponseEntity<ProductFacetsDTO> rebuild() {
+        return ResponseEntity.ok(productFacetService.rebuild());
+    }
+}
@@ -0,0 +1,92 @@
+package com.mercadolivre.api.controller;
+
+import java.util.Objects;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.service.ReactiveProductService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/reactive/products")
+@Tag(name = "Products - Reactive", description = "Non-blocking read endpoints; request threads are released while the database is queried")
+public class ProductReactiveController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    public ProductReactiveController(ReactiveProductService reactiveProductService) {
+        this.reactiveProductService = reactiveProductService;
+    }
+
+    @GetMapping
+    @Operation(
+        summary = "List all products with pagination (non-blocking)",
+        description = "Same contract as GET /api/v1/products, served asynchronously.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination parameters"),
+            @ApiResponse(responseCode = "503", description = "Read queue is full")
+        }
+    )
+    public Mono<ResponseEntity<Page<ProductResponseDTO>>> getAllProducts(
+            @Parameter(description = "Page number (starting from 0)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+
+            @Parameter(description = "Number of items per page (max: 100)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) int size,
+
+            @Parameter(description = "Field for sorting (id, name, price)", example = "name")
+            @RequestParam(defaultValue = "id") String sortBy,
+
+            @Parameter(description = "Sort direction (ASC or DESC)", example = "ASC")
+            @RequestParam(defaultValue = "ASC") String direction
+    ) {
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        Objects.requireNonNull(sortBy, "SortBy cannot be null");
+
+        if (!Product.SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException(
+                "Invalid sort field: " + sortBy + ". Allowed fields: " + Product.SORTABLE_FIELDS
+            );
+        }
+
+        PageRequest pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.fromString(direction), sortBy));
+        return reactiveProductService.getAllProducts(pageable).map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "Get product by ID (non-blocking)",
+        description = "Cached products are returned immediately; others are loaded without holding the request thread.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Product found"),
+            @ApiResponse(responseCode = "404", description = "Product not found"),
+            @ApiResponse(responseCode = "503", description = "Read queue is full")
+        }
+    )
+    public Mono<ResponseEntity<ProductResponseDTO>> getProductById(
+            @Parameter(description = "Product ID", example = "1")
+            @PathVariable @Positive Long id
+    ) {
+        return reactiveProductService.getProductById(id).map(product -> ProductETags.withValidators(HttpStatus.OK, product));
+    }
+}
@@ -0,0 +1,76 @@
+package com.mercadolivre.api.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.mercadolivre.api.dto.ProductSearchResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestResponseDTO;
+import com.mercadolivre.api.search.SuggestionIndex;
+import com.mercadolivre.api.service.ProductSearchService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+@RestController
+@RequestMapping("/api/v1/products")
+@Tag(name = "Products - Search", description = "Endpoints for product search")
+public class ProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    public ProductSearchController(ProductSearchService productSearchService) {
+        this.productSearchService = productSearchService;
+    }
+
+    @GetMapping("/search")
+    @Operation(
+        summary = "Full-text product search",
+        description = "Searches product names and descriptions, ignoring case and accents, and ranks results with BM25. "
+            + "Matches in the name weigh more than matches in the description.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Search completed"),
+            @ApiResponse(responseCode = "400", description = "Empty query or invalid pagination parameters")
+        }
+    )
+    public ResponseEntity<ProductSearchResponseDTO> search(
+            @Parameter(description = "Search terms", example = "teclado mecanico")
+            @RequestParam @NotBlank @Size(max = 200) String q,
+
+            @Parameter(description = "Page number (starting from 0)", example = "0")
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+
+            @Parameter(description = "Number of hits per page (max: 100)", example = "20")
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size
+    ) {
+        return ResponseEntity.ok(productSearchService.search(q, page, size));
+    }
+
+    @GetMapping("/suggest")
+    @Operation(
+        summary = "Suggest product names as the user types",
+        description = "Returns product names containing a word that starts with the prefix, ignoring case and accents. "
+            + "Names starting with the prefix come first, then shorter names. Served from memory without touching the database.",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Suggestions returned"),
+            @ApiResponse(responseCode = "400", description = "Empty prefix or invalid size")
+        }
+    )
+    public ResponseEntity<ProductSuggestResponseDTO> suggest(
+            @Parameter(description = "Beginning of a word in the product name", example = "tecl")
+            @RequestParam @NotBlank @Size(max = SuggestionIndex.MAX_PREFIX_LENGTH) String prefix,
+
+            @Parameter(description = "Number of suggestions (max: 10)", example = "10")
+            @RequestParam(defaultValue = "10") @Min(1) @Max(SuggestionIndex.MAX_SUGGESTIONS) int size
+    ) {
+        return ResponseEntity.ok(productSearchService.suggest(prefix, size));
+    }
+}
@@ -0,0 +1,10 @@
+package com.mercadolivre.api.dto;
+
+import java.math.BigDecimal;
+
+// Prices from minPrice (inclusive) to maxPrice (exclusive); maxPrice is null for the last bucket
+public record PriceBucketDTO(
+    BigDecimal minPrice,
+    BigDecimal maxPrice,
+    long count
+) {}
@@ -0,0 +1,7 @@
+package com.mercadolivre.api.dto;
+
+public record ProductBatchItemDTO(
+    ProductBatchOperation operation,
+    Long id,
+    ProductRequestDTO product
+) {}
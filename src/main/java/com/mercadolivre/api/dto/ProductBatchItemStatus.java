@@ -0,0 +1,10 @@
+package com.mercadolivre.api.dto;
+
+public enum ProductBatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    NOT_FOUND,
+    INVALID,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.mercadolivre.api.dto;
+
+public enum ProductBatchOperation {
+    CREATE,
+    UPDATE,
+    DELETE
+}
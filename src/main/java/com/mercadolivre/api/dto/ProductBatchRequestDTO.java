@@ -0,0 +1,14 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+public record ProductBatchRequestDTO(
+    @NotEmpty(message = "Items cannot be empty")
+    @Size(max = ProductBatchRequestDTO.MAX_ITEMS, message = "A batch cannot exceed " + ProductBatchRequestDTO.MAX_ITEMS + " items")
+    List<ProductBatchItemDTO> items
+) {
+    public static final int MAX_ITEMS = 10_000;
+}
@@ -0,0 +1,10 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductBatchResponseDTO(
+    int total,
+    int succeeded,
+    int failed,
+    List<ProductBatchResultDTO> results
+) {}
@@ -0,0 +1,13 @@
+package com.mercadolivre.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductBatchResultDTO(
+    int index,
+    ProductBatchOperation operation,
+    Long id,
+    ProductBatchItemStatus status,
+    ProductResponseDTO product,
+    String message
+) {}
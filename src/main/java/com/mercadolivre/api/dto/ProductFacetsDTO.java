@@ -0,0 +1,8 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductFacetsDTO(
+    long totalProducts,
+    List<PriceBucketDTO> priceHistogram
+) {}
@@ -0,0 +1,6 @@
+package com.mercadolivre.api.dto;
+
+public record ProductImportErrorDTO(
+    long line,
+    String message
+) {}
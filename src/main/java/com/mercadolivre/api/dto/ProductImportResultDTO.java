@@ -0,0 +1,11 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductImportResultDTO(
+    long processed,
+    long imported,
+    long failed,
+    List<ProductImportErrorDTO> errors,
+    boolean errorsTruncated
+) {}
@@ -0,0 +1,18 @@
+package com.mercadolivre.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductLookupResultDTO(
+    Long id,
+    boolean found,
+    ProductResponseDTO product
+) {
+    public static ProductLookupResultDTO found(ProductResponseDTO product) {
+        return new ProductLookupResultDTO(product.id(), true, product);
+    }
+
+    public static ProductLookupResultDTO missing(Long id) {
+        return new ProductLookupResultDTO(id, false, null);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductMultiGetResponseDTO(
+    int requested,
+    int found,
+    List<ProductLookupResultDTO> results
+) {
+    public static final int MAX_IDS = 200;
+}
@@ -0,0 +1,84 @@
+package com.mercadolivre.api.dto;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+// JSON Merge Patch (RFC 7396) of a product: absent members keep their value, null clears one.
+// Only the description can be cleared; name and price are required on every product.
+public record ProductPatchDTO(
+    String name,
+    String description,
+    BigDecimal price,
+    boolean clearDescription
+) {
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("0.01");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("99999999.99");
+
+    public boolean hasChanges() {
+        return name != null || description != null || price != null || clearDescription;
+    }
+
+    public static ProductPatchDTO fromJson(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("A product patch must be a JSON object");
+        }
+        String name = null;
+        String description = null;
+        BigDecimal price = null;
+        boolean clearDescription = false;
+        for (Iterator<Map.Entry<String, JsonNode>> fields = patch.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case "name" -> name = name(value);
+                case "description" -> {
+                    clearDescription = value.isNull();
+                    description = clearDescription ? null : description(value);
+                }
+                case "price" -> price = price(value);
+                default -> throw new IllegalArgumentException("Unknown product field: " + field.getKey());
+            }
+        }
+        return new ProductPatchDTO(name, description, price, clearDescription);
+    }
+
+    private static String name(JsonNode value) {
+        if (!value.isTextual() || value.asText().isBlank()) {
+            throw new IllegalArgumentException("Name cannot be empty");
+        }
+        int length = value.asText().length();
+        if (length < 3 || length > 100) {
+            throw new IllegalArgumentException("Name must be between 3 and 100 characters");
+        }
+        return value.asText();
+    }
+
+    private static String description(JsonNode value) {
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException("Description must be a string or null");
+        }
+        if (value.asText().length() > 500) {
+            throw new IllegalArgumentException("Description cannot exceed 500 characters");
+        }
+        return value.asText();
+    }
+
+    // Exactly representable in the price column, so the patched value is the stored one
+    private static BigDecimal price(JsonNode value) {
+        if (!value.isNumber()) {
+            throw new IllegalArgumentException("Price is required");
+        }
+        BigDecimal price = value.decimalValue();
+        if (price.compareTo(MIN_PRICE) < 0) {
+            throw new IllegalArgumentException("Price must be greater than zero");
+        }
+        if (price.compareTo(MAX_PRICE) > 0 || price.stripTrailingZeros().scale() > 2) {
+            throw new IllegalArgumentException("Price must have at most 8 integer digits and 2 decimals");
+        }
+        return price.setScale(2);
+    }
+}
@@ -1,10 +1,21 @@
 package com.mercadolivre.api.dto;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// version and updatedAt travel as the ETag and Last-Modified headers rather than in the body
 public record ProductResponseDTO(
     Long id,
     String name,
     String description,
-    BigDecimal price
-) {}
+    BigDecimal price,
+    @JsonIgnore Long version,
+    @JsonIgnore Instant updatedAt
+) {
+
+    public ProductResponseDTO(Long id, String name, String description, BigDecimal price) {
+        this(id, name, description, price, null, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.mercadolivre.api.dto;
+
+public record ProductSearchHitDTO(
+    double score,
+    ProductResponseDTO product
+) {}
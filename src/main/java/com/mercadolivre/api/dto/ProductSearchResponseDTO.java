@@ -0,0 +1,11 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductSearchResponseDTO(
+    String query,
+    long totalHits,
+    int page,
+    int size,
+    List<ProductSearchHitDTO> hits
+) {}
@@ -0,0 +1,10 @@
+package com.mercadolivre.api.dto;
+
+import java.util.List;
+
+public record ProductSliceResponseDTO(
+    List<ProductResponseDTO> content,
+    int size,
+    boolean hasNext,
+    String nextCursor
+) {}
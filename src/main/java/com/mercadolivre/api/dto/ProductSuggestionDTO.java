@@ -0,0 +1,6 @@
+package com.mercadolivre.api.dto;
+
+public record ProductSuggestionDTO(
+    Long id,
+    String name
+) {}
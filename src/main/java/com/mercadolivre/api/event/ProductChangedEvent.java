@@ -0,0 +1,31 @@
+package com.mercadolivre.api.event;
+
+import java.util.Objects;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+
+public record ProductChangedEvent(ChangeType type, Long id, ProductResponseDTO product) {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public ProductChangedEvent {
+        Objects.requireNonNull(type, "Change type cannot be null");
+        Objects.requireNonNull(id, "Product ID cannot be null");
+    }
+
+    public static ProductChangedEvent created(ProductResponseDTO product) {
+        return new ProductChangedEvent(ChangeType.CREATED, product.id(), product);
+    }
+
+    public static ProductChangedEvent updated(ProductResponseDTO product) {
+        return new ProductChangedEvent(ChangeType.UPDATED, product.id(), product);
+    }
+
+    public static ProductChangedEvent deleted(Long id) {
+        return new ProductChangedEvent(ChangeType.DELETED, id, null);
+    }
+}
@@ -0,0 +1,6 @@
+package com.mercadolivre.api.importer;
+
+public enum ProductImportFormat {
+    NDJSON,
+    CSV
+}
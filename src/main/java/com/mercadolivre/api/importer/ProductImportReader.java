@@ -0,0 +1,155 @@
+package com.mercadolivre.api.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mercadolivre.api.dto.ProductRequestDTO;
+
+public final class ProductImportReader implements Closeable {
+
+    public record Row(long line, ProductRequestDTO product, String error) {}
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectReader jsonReader;
+    private int nameColumn = -1;
+    private int descriptionColumn = -1;
+    private int priceColumn = -1;
+    private long line;
+
+    private ProductImportReader(InputStream inputStream, ProductImportFormat format, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonReader = objectMapper == null ? null : objectMapper.readerFor(ProductRequestDTO.class);
+    }
+
+    public static ProductImportReader ndjson(InputStream inputStream, ObjectMapper objectMapper) {
+        Objects.requireNonNull(inputStream, "Input stream cannot be null");
+        Objects.requireNonNull(objectMapper, "Object mapper cannot be null");
+        return new ProductImportReader(inputStream, ProductImportFormat.NDJSON, objectMapper);
+    }
+
+    public static ProductImportReader csv(InputStream inputStream) throws IOException {
+        Objects.requireNonNull(inputStream, "Input stream cannot be null");
+        ProductImportReader importReader = new ProductImportReader(inputStream, ProductImportFormat.CSV, null);
+        importReader.readHeader();
+        return importReader;
+    }
+
+    // Returns null at the end of the input; unparseable records carry an error instead of a product
+    public Row next() throws IOException {
+        String text;
+        do {
+            text = reader.readLine();
+            if (text == null) {
+                return null;
+            }
+            line++;
+        } while (text.isBlank());
+
+        return format == ProductImportFormat.NDJSON ? parseJson(text) : parseCsv(text);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private Row parseJson(String text) {
+        try {
+            return new Row(line, jsonReader.readValue(text), null);
+        } catch (JsonProcessingException ex) {
+            return new Row(line, null, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    private Row parseCsv(String text) {
+        List<String> fields = splitCsv(text);
+        if (fields == null) {
+            return new Row(line, null, "Malformed CSV: unterminated quoted field");
+        }
+
+        BigDecimal price = null;
+        String rawPrice = field(fields, priceColumn);
+        if (rawPrice != null) {
+            try {
+                price = new BigDecimal(rawPrice.trim());
+            } catch (NumberFormatException ex) {
+                return new Row(line, null, "price: Invalid number '" + rawPrice + "'");
+            }
+        }
+        return new Row(line, new ProductRequestDTO(field(fields, nameColumn), field(fields, descriptionColumn), price), null);
+    }
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        line++;
+        List<String> columns = header == null ? null : splitCsv(header);
+        if (columns == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> nameColumn = i;
+                case "description" -> descriptionColumn = i;
+                case "price" -> priceColumn = i;
+                default -> { }
+            }
+        }
+        if (nameColumn < 0 || priceColumn < 0) {
+            throw new IllegalArgumentException("CSV header must contain the columns name and price");
+        }
+    }
+
+    private static String field(List<String> fields, int column) {
+        if (column < 0 || column >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(column);
+        return value.isEmpty() ? null : value;
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes
+    private static List<String> splitCsv(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,68 @@
+package com.mercadolivre.api.interceptor;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.mercadolivre.api.metrics.QueryStats;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+// Records how many JDBC statements each request ran and how long they took, per route.
+// Statements issued from other threads, such as the reactive read executor, are not attributed.
+public class QueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String STATEMENTS_METRIC = "http.server.requests.db.statements";
+    public static final String TIME_METRIC = "http.server.requests.db.time";
+
+    private final MeterRegistry registry;
+
+    public QueryMetricsInterceptor(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            QueryStats.begin();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request);
+    }
+
+    private void record(HttpServletRequest request) {
+        QueryStats.Snapshot stats = QueryStats.end();
+        if (stats == null) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(STATEMENTS_METRIC)
+            .description("JDBC statements executed per request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(registry)
+            .record(stats.statements());
+        Timer.builder(TIME_METRIC)
+            .description("Time spent executing JDBC statements per request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(registry)
+            .record(stats.elapsedNanos(), TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,57 @@
+package com.mercadolivre.api.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+
+// One JSON object per line. The builder is allocated per event: OutputStreamAppender calls the
+// encoder before it takes its write lock, so a shared buffer would be written by concurrent appends.
+public class JsonLineLayout extends LayoutBase<ILoggingEvent> {
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringBuilder line = new StringBuilder(INITIAL_CAPACITY);
+        line.append("{\"ts\":").append(event.getTimeStamp());
+        field(line, "level", event.getLevel().toString());
+        field(line, "thread", event.getThreadName());
+        field(line, "logger", event.getLoggerName());
+        field(line, "msg", event.getFormattedMessage());
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            field(line, "error", ThrowableProxyUtil.asString(throwable));
+        }
+        return line.append('}').append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+
+    private static void field(StringBuilder line, String name, String value) {
+        line.append(",\"").append(name).append("\":\"");
+        if (value != null) {
+            escape(line, value);
+        }
+        line.append('"');
+    }
+
+    static void escape(StringBuilder line, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.mercadolivre.api.logging;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+public final class LogMarkers {
+
+    // High-volume per-request logs; the prod profile keeps only a sample of them (SamplingTurboFilter)
+    public static final Marker SAMPLED = MarkerFactory.getMarker("SAMPLED");
+
+    private LogMarkers() {
+    }
+}
@@ -0,0 +1,34 @@
+package com.mercadolivre.api.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+// Keeps one in sampleOneIn events carrying the SAMPLED marker. Turbo filters run before the
+// event is created or its message formatted, so a dropped log costs one random draw.
+public class SamplingTurboFilter extends TurboFilter {
+
+    private int sampleOneIn = 100;
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // No format means an isXxxEnabled() check; sampling there would sample the real call twice
+        if (format == null || marker == null || sampleOneIn <= 1 || !marker.contains(LogMarkers.SAMPLED)) {
+            return FilterReply.NEUTRAL;
+        }
+        return ThreadLocalRandom.current().nextInt(sampleOneIn) == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public int getSampleOneIn() {
+        return sampleOneIn;
+    }
+
+    public void setSampleOneIn(int sampleOneIn) {
+        this.sampleOneIn = sampleOneIn;
+    }
+}
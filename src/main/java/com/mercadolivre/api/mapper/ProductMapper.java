@@ -1,7 +1,10 @@
 package com.mercadolivre.api.mapper;
 
+import java.time.Instant;
+
 import org.springframework.stereotype.Component;
 
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
 import com.mercadolivre.api.model.Product;
@@ -18,7 +21,25 @@ public class ProductMapper {
             product.getId(),
             product.getName(),
             product.getDescription(),
-            product.getPrice()
+            product.getPrice(),
+            product.getVersion(),
+            product.getUpdatedAt()
+        );
+    }
+
+    // The state a successful version-guarded patch of current leaves behind
+    public ProductResponseDTO applyPatch(ProductResponseDTO current, ProductPatchDTO patch, Instant updatedAt) {
+        if (current == null || patch == null) {
+            return current;
+        }
+
+        return new ProductResponseDTO(
+            current.id(),
+            patch.name() != null ? patch.name() : current.name(),
+            patch.description() != null || patch.clearDescription() ? patch.description() : current.description(),
+            patch.price() != null ? patch.price() : current.price(),
+            current.version() + 1,
+            updatedAt
         );
     }
 
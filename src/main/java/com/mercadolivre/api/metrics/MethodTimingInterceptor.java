@@ -0,0 +1,52 @@
+package com.mercadolivre.api.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Times every call through a bean's proxy, tagged by method and exception. Percentiles and
+// histogram buckets come from management.metrics.distribution.* for the metric name.
+public class MethodTimingInterceptor implements MethodInterceptor {
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final Supplier<MeterRegistry> registry;
+    private final String metricName;
+    private final Map<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+    public MethodTimingInterceptor(Supplier<MeterRegistry> registry, String metricName) {
+        this.registry = registry;
+        this.metricName = metricName;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            successTimers.computeIfAbsent(invocation.getMethod(), method -> timer(method, NO_EXCEPTION))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(invocation.getMethod(), e.getClass().getSimpleName())
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(Method method, String exception) {
+        return Timer.builder(metricName)
+            .tag("class", method.getDeclaringClass().getSimpleName())
+            .tag("method", method.getName())
+            .tag("exception", exception)
+            .register(registry.get());
+    }
+}
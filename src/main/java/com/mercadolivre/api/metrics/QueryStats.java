@@ -0,0 +1,33 @@
+package com.mercadolivre.api.metrics;
+
+// JDBC statements executed on the current thread between begin() and end(). Hibernate creates
+// the session listener that feeds it by class name, hence the static, thread-confined state.
+public final class QueryStats {
+
+    private static final ThreadLocal<long[]> CURRENT = new ThreadLocal<>();
+
+    private QueryStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new long[2]);
+    }
+
+    static void record(long elapsedNanos) {
+        long[] stats = CURRENT.get();
+        if (stats != null) {
+            stats[0]++;
+            stats[1] += elapsedNanos;
+        }
+    }
+
+    // Null when nothing was begun on this thread
+    public static Snapshot end() {
+        long[] stats = CURRENT.get();
+        CURRENT.remove();
+        return stats == null ? null : new Snapshot(stats[0], stats[1]);
+    }
+
+    public record Snapshot(long statements, long elapsedNanos) {
+    }
+}
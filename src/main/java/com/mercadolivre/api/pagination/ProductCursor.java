@@ -0,0 +1,62 @@
+package com.mercadolivre.api.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.data.domain.Sort;
+
+import com.mercadolivre.api.model.Product;
+
+public record ProductCursor(String sortBy, Sort.Direction direction, Long id, String value) {
+
+    private static final String SEPARATOR = ":";
+
+    public ProductCursor {
+        Objects.requireNonNull(sortBy, "SortBy cannot be null");
+        Objects.requireNonNull(direction, "Direction cannot be null");
+        Objects.requireNonNull(id, "Cursor ID cannot be null");
+        if (!Product.SORTABLE_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException(
+                "Invalid sort field: " + sortBy + ". Allowed fields: " + Product.SORTABLE_FIELDS
+            );
+        }
+    }
+
+    public static ProductCursor of(String sortBy, Sort.Direction direction, Product last) {
+        Objects.requireNonNull(last, "Product cannot be null");
+        String value = switch (sortBy) {
+            case "name" -> last.getName();
+            case "price" -> last.getPrice().toPlainString();
+            default -> String.valueOf(last.getId());
+        };
+        return new ProductCursor(sortBy, direction, last.getId(), value);
+    }
+
+    public static ProductCursor decode(String encoded) {
+        Objects.requireNonNull(encoded, "Cursor cannot be null");
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded);
+        }
+
+        // The sort key goes last because product names may contain the separator
+        String[] parts = raw.split(SEPARATOR, 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded);
+        }
+
+        try {
+            return new ProductCursor(parts[0], Sort.Direction.fromString(parts[1]), Long.valueOf(parts[2]), parts[3]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + encoded);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
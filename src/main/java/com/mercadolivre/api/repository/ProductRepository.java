@@ -1,10 +1,77 @@
 package com.mercadolivre.api.repository;
 
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.mercadolivre.api.dto.ProductResponseDTO;
 import com.mercadolivre.api.model.Product;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductRepositoryCustom {
+
+    int STREAM_FETCH_SIZE = 1000;
+
+    // Inclusive range scan over idx_products_price_id; callers pass concrete bounds so the plan stays a range scan
+    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    Page<Product> findByPriceRange(@Param("minPrice") BigDecimal minPrice, @Param("maxPrice") BigDecimal maxPrice, Pageable pageable);
+
+    @Query("SELECT new com.mercadolivre.api.dto.ProductResponseDTO(p.id, p.name, p.description, p.price, p.version, p.updatedAt) FROM Product p WHERE p.id = :id")
+    Optional<ProductResponseDTO> findDtoById(@Param("id") Long id);
+
+    // Keyset (seek) queries: the caller's Pageable must sort by the seek key and then by id
+    // in the same direction, and always request page 0. Slice results skip the count query.
+
+    Slice<Product> findSliceBy(Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.id > :id")
+    Slice<Product> seekByIdAsc(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.id < :id")
+    Slice<Product> seekByIdDesc(@Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.name > :name OR (p.name = :name AND p.id > :id)")
+    Slice<Product> seekByNameAsc(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.name < :name OR (p.name = :name AND p.id < :id)")
+    Slice<Product> seekByNameDesc(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.price > :price OR (p.price = :price AND p.id > :id)")
+    Slice<Product> seekByPriceAsc(@Param("price") BigDecimal price, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.price < :price OR (p.price = :price AND p.id < :id)")
+    Slice<Product> seekByPriceDesc(@Param("price") BigDecimal price, @Param("id") Long id, Pageable pageable);
+
+    // Forward-only cursor over the whole table; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Product p ORDER BY p.id")
+    Stream<Product> streamAllBy();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("SELECT p.id FROM Product p")
+    Stream<Long> streamAllIds();
+
+    // Same cursor as streamAllBy, projected straight into DTOs so no entities pile up in the persistence context
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new com.mercadolivre.api.dto.ProductResponseDTO(p.id, p.name, p.description, p.price, p.version, p.updatedAt) FROM Product p ORDER BY p.id")
+    Stream<ProductResponseDTO> streamAllAsDto();
 }
@@ -0,0 +1,12 @@
+package com.mercadolivre.api.repository;
+
+import java.time.Instant;
+
+import com.mercadolivre.api.dto.ProductPatchDTO;
+
+public interface ProductRepositoryCustom {
+
+    // Single UPDATE of only the patched columns, bumping the version; guarded by expectedVersion when
+    // it is not null. Returns the number of rows changed, so 0 means missing or at another version.
+    int patch(Long id, ProductPatchDTO patch, Long expectedVersion, Instant updatedAt);
+}
@@ -0,0 +1,60 @@
+package com.mercadolivre.api.repository;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.mercadolivre.api.dto.ProductPatchDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, ProductPatchDTO patch, Long expectedVersion, Instant updatedAt) {
+        Objects.requireNonNull(id, "Product ID cannot be null");
+        Objects.requireNonNull(patch, "Product patch cannot be null");
+        if (!patch.hasChanges()) {
+            throw new IllegalArgumentException("Product patch has no changes");
+        }
+
+        StringBuilder jpql = new StringBuilder("UPDATE Product p SET ");
+        if (patch.name() != null) {
+            jpql.append("p.name = :name, ");
+        }
+        if (patch.description() != null) {
+            jpql.append("p.description = :description, ");
+        } else if (patch.clearDescription()) {
+            jpql.append("p.description = NULL, ");
+        }
+        if (patch.price() != null) {
+            jpql.append("p.price = :price, ");
+        }
+        // Bulk updates bypass @Version and @UpdateTimestamp, so both are set here
+        jpql.append("p.version = p.version + 1, p.updatedAt = :updatedAt WHERE p.id = :id");
+        if (expectedVersion != null) {
+            jpql.append(" AND p.version = :version");
+        }
+
+        Query update = entityManager.createQuery(jpql.toString())
+            .setParameter("id", id)
+            .setParameter("updatedAt", updatedAt);
+        if (patch.name() != null) {
+            update.setParameter("name", patch.name());
+        }
+        if (patch.description() != null) {
+            update.setParameter("description", patch.description());
+        }
+        if (patch.price() != null) {
+            update.setParameter("price", patch.price());
+        }
+        if (expectedVersion != null) {
+            update.setParameter("version", expectedVersion);
+        }
+        return update.executeUpdate();
+    }
+}
@@ -0,0 +1,129 @@
+package com.mercadolivre.api.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Term -> (document -> term frequency) postings ranked with Okapi BM25.
+// Reads share a lock; upserts and removals take it exclusively and only touch the document's own terms.
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    public record Hit(long id, double score) {}
+
+    public record Result(long totalHits, List<Hit> hits) {}
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> lengths = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    public void upsert(long id, Map<String, Integer> termFrequencies) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            if (termFrequencies.isEmpty()) {
+                return;
+            }
+            Map<String, Integer> terms = Map.copyOf(termFrequencies);
+            documents.put(id, terms);
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(id, entry.getValue());
+                length += entry.getValue();
+            }
+            lengths.put(id, length);
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Documents matching any term, best first; only the top offset + limit are kept while scoring
+    public Result search(Collection<String> terms, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0 || terms.isEmpty()) {
+                return new Result(0, List.of());
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                docs.forEach((id, frequency) -> {
+                    double norm = frequency + K1 * (1 - B + B * lengths.get(id) / averageLength);
+                    scores.merge(id, idf * frequency * (K1 + 1) / norm, Double::sum);
+                });
+            }
+
+            // Past the last hit there is nothing to rank; offset may exceed int range for a large page number
+            if (offset >= scores.size()) {
+                return new Result(scores.size(), List.of());
+            }
+            Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score).thenComparing(Hit::id, Comparator.reverseOrder());
+            long keep = offset + limit;
+            PriorityQueue<Hit> top = new PriorityQueue<>(ranking);
+            scores.forEach((id, score) -> {
+                top.offer(new Hit(id, score));
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            });
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(ranking.reversed());
+            List<Hit> page = ranked.subList((int) offset, ranked.size());
+            return new Result(scores.size(), List.copyOf(page));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(long id) {
+        Map<String, Integer> previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= lengths.remove(id);
+    }
+}
@@ -0,0 +1,67 @@
+package com.mercadolivre.api.search;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Product counts per price bucket, kept as LongAdders so concurrent writers do not contend on a
+// single counter. The bucket of every product is remembered, so an update or delete decrements
+// exactly the bucket it was counted in.
+public class PriceHistogram {
+
+    // Bucket i holds prices below upperBoundsCents[i]; the last bucket is open-ended
+    private final long[] upperBoundsCents;
+    private final LongAdder[] counts;
+    private final Map<Long, Integer> bucketById = new ConcurrentHashMap<>();
+
+    public PriceHistogram(long[] upperBoundsCents) {
+        for (int i = 1; i < upperBoundsCents.length; i++) {
+            if (upperBoundsCents[i] <= upperBoundsCents[i - 1]) {
+                throw new IllegalArgumentException("Bucket bounds must be strictly increasing");
+            }
+        }
+        this.upperBoundsCents = upperBoundsCents.clone();
+        this.counts = new LongAdder[upperBoundsCents.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void upsert(long id, long cents) {
+        int bucket = bucketOf(cents);
+        Integer previous = bucketById.put(id, bucket);
+        if (previous == null || previous != bucket) {
+            counts[bucket].increment();
+            if (previous != null) {
+                counts[previous].decrement();
+            }
+        }
+    }
+
+    public void remove(long id) {
+        Integer previous = bucketById.remove(id);
+        if (previous != null) {
+            counts[previous].decrement();
+        }
+    }
+
+    public long[] upperBoundsCents() {
+        return upperBoundsCents.clone();
+    }
+
+    // One count per bucket; buckets are read one by one, so concurrent writes may be half-applied
+    public long[] counts() {
+        long[] snapshot = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            snapshot[i] = counts[i].sum();
+        }
+        return snapshot;
+    }
+
+    private int bucketOf(long cents) {
+        int position = Arrays.binarySearch(upperBoundsCents, cents);
+        // A price equal to a bound belongs to the next bucket
+        return position >= 0 ? position + 1 : -position - 1;
+    }
+}
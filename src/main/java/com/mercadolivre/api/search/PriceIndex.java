@@ -0,0 +1,227 @@
+package com.mercadolivre.api.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Products ordered by (price in cents, id) in parallel primitive arrays, so a range is two binary
+// searches and a page is a slice of ids. Writes land in a small delta map (id -> cents, or REMOVED)
+// that queries merge on the fly; once it grows past a fraction of the snapshot it is compacted.
+public class PriceIndex {
+
+    public record Result(long total, List<Long> ids) {}
+
+    private static final long REMOVED = Long.MIN_VALUE;
+    private static final int MIN_COMPACTION_THRESHOLD = 1024;
+
+    private record Entry(long cents, long id) {}
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingLong(Entry::cents).thenComparingLong(Entry::id);
+
+    // byPrice*: sorted by (cents, id); byId*: the same entries sorted by id, for looking up a snapshot price
+    private long[] byPriceCents = new long[0];
+    private long[] byPriceIds = new long[0];
+    private long[] byIdIds = new long[0];
+    private long[] byIdCents = new long[0];
+    private final Map<Long, Long> delta = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public void load(long[] ids, long[] cents) {
+        if (ids.length != cents.length) {
+            throw new IllegalArgumentException("Ids and prices must have the same length");
+        }
+        List<Entry> entries = new ArrayList<>(ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            entries.add(new Entry(cents[i], ids[i]));
+        }
+        lock.writeLock().lock();
+        try {
+            delta.clear();
+            replaceSnapshot(entries);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void upsert(long id, long cents) {
+        write(id, cents);
+    }
+
+    public void remove(long id) {
+        write(id, REMOVED);
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            long live = byPriceIds.length;
+            for (Map.Entry<Long, Long> change : delta.entrySet()) {
+                boolean inSnapshot = snapshotCents(change.getKey()) != null;
+                boolean present = change.getValue() != REMOVED;
+                live += (present ? 1 : 0) - (inSnapshot ? 1 : 0);
+            }
+            return (int) live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Ids with minCents <= price <= maxCents ordered by (price, id), skipping offset and returning at most limit
+    public Result range(long minCents, long maxCents, boolean descending, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int from = lowerBound(minCents);
+            int to = lowerBound(maxCents == Long.MAX_VALUE ? Long.MAX_VALUE : maxCents + 1);
+            if (from > to) {
+                to = from;
+            }
+
+            long total = to - from;
+            List<Entry> changed = new ArrayList<>();
+            for (Map.Entry<Long, Long> change : delta.entrySet()) {
+                Long previous = snapshotCents(change.getKey());
+                if (previous != null && previous >= minCents && previous <= maxCents) {
+                    total--;
+                }
+                long cents = change.getValue();
+                if (cents != REMOVED && cents >= minCents && cents <= maxCents) {
+                    changed.add(new Entry(cents, change.getKey()));
+                    total++;
+                }
+            }
+            changed.sort(descending ? ORDER.reversed() : ORDER);
+
+            List<Long> ids = new ArrayList<>(Math.max(0, Math.min(limit, (int) Math.min(Integer.MAX_VALUE, total))));
+            if (delta.isEmpty()) {
+                // Fast path: the page is a contiguous slice of the snapshot
+                int start = descending ? to - 1 - offset : from + offset;
+                for (int i = 0; i < limit; i++) {
+                    int position = descending ? start - i : start + i;
+                    if (position < from || position >= to) {
+                        break;
+                    }
+                    ids.add(byPriceIds[position]);
+                }
+                return new Result(total, ids);
+            }
+
+            int cursor = descending ? to - 1 : from;
+            int step = descending ? -1 : 1;
+            int next = 0;
+            int skipped = 0;
+            while (ids.size() < limit) {
+                while (cursor >= from && cursor < to && delta.containsKey(byPriceIds[cursor])) {
+                    cursor += step;
+                }
+                boolean snapshotLeft = cursor >= from && cursor < to;
+                boolean changedLeft = next < changed.size();
+                if (!snapshotLeft && !changedLeft) {
+                    break;
+                }
+                long id;
+                if (snapshotLeft && (!changedLeft
+                        || comesFirst(byPriceCents[cursor], byPriceIds[cursor], changed.get(next), descending))) {
+                    id = byPriceIds[cursor];
+                    cursor += step;
+                } else {
+                    id = changed.get(next++).id();
+                }
+                if (skipped < offset) {
+                    skipped++;
+                } else {
+                    ids.add(id);
+                }
+            }
+            return new Result(total, ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(long id, long cents) {
+        lock.writeLock().lock();
+        try {
+            Long previous = snapshotCents(id);
+            if (previous != null && previous == cents) {
+                delta.remove(id);
+            } else if (previous == null && cents == REMOVED) {
+                delta.remove(id);
+            } else {
+                delta.put(id, cents);
+            }
+            if (delta.size() > Math.max(MIN_COMPACTION_THRESHOLD, byPriceIds.length / 64)) {
+                compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compact() {
+        List<Entry> entries = new ArrayList<>(byPriceIds.length + delta.size());
+        for (int i = 0; i < byPriceIds.length; i++) {
+            if (!delta.containsKey(byPriceIds[i])) {
+                entries.add(new Entry(byPriceCents[i], byPriceIds[i]));
+            }
+        }
+        delta.forEach((id, cents) -> {
+            if (cents != REMOVED) {
+                entries.add(new Entry(cents, id));
+            }
+        });
+        delta.clear();
+        replaceSnapshot(entries);
+    }
+
+    private void replaceSnapshot(List<Entry> entries) {
+        entries.sort(ORDER);
+        int size = entries.size();
+        long[] cents = new long[size];
+        long[] ids = new long[size];
+        for (int i = 0; i < size; i++) {
+            cents[i] = entries.get(i).cents();
+            ids[i] = entries.get(i).id();
+        }
+        entries.sort(Comparator.comparingLong(Entry::id));
+        long[] sortedIds = new long[size];
+        long[] centsById = new long[size];
+        for (int i = 0; i < size; i++) {
+            sortedIds[i] = entries.get(i).id();
+            centsById[i] = entries.get(i).cents();
+        }
+        byPriceCents = cents;
+        byPriceIds = ids;
+        byIdIds = sortedIds;
+        byIdCents = centsById;
+    }
+
+    private Long snapshotCents(long id) {
+        int position = Arrays.binarySearch(byIdIds, id);
+        return position >= 0 ? byIdCents[position] : null;
+    }
+
+    // First position whose price is >= cents
+    private int lowerBound(long cents) {
+        int low = 0;
+        int high = byPriceCents.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (byPriceCents[mid] < cents) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static boolean comesFirst(long cents, long id, Entry other, boolean descending) {
+        int comparison = cents != other.cents() ? Long.compare(cents, other.cents()) : Long.compare(id, other.id());
+        return descending ? comparison > 0 : comparison < 0;
+    }
+}
@@ -0,0 +1,258 @@
+package com.mercadolivre.api.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Sorted set of the word starts of normalized product names, so "mec" finds "Teclado Mecânico".
+// A key is the rest of the name from a word start, read in place from the product's normalized
+// name, so a product costs one entry per word however long its name is. A lookup walks the keys
+// that start with the prefix. Prefixes matching at least cacheMinMatches keys, such as "t" or a
+// common word, keep their best entries between writes, with spare ones so that removing a listed
+// product rarely forces a rescan. At most (total key length / cacheMinMatches) prefixes can match
+// that many keys, so the kept lists stay small next to the keys themselves.
+public class SuggestionIndex {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    public static final int MAX_PREFIX_LENGTH = 50;
+    static final int DEFAULT_CACHE_MIN_MATCHES = 256;
+    static final int CACHED_ENTRIES = 2 * MAX_SUGGESTIONS;
+
+    public record Suggestion(long id, String name) {}
+
+    // word: index of the word the key starts at, so name-start matches rank first
+    private record Entry(long id, String name, String normalized, int start, int word) {
+
+        int keyLength() {
+            return normalized.length() - start;
+        }
+
+        boolean keyStartsWith(String prefix) {
+            return normalized.startsWith(prefix, start);
+        }
+    }
+
+    // complete: every product matching the prefix is listed, so removals can never leave a gap
+    private record Top(Entry[] entries, boolean complete) {}
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    private final NavigableSet<Entry> keys = new TreeSet<>(SuggestionIndex::compareKeys);
+    private final Map<Long, Entry[]> entriesById = new HashMap<>();
+    // Filled by readers under the read lock and changed by writers under the write lock
+    private final Map<String, Top> cachedTops = new ConcurrentHashMap<>();
+    private final AtomicInteger longestCachedPrefix = new AtomicInteger();
+    private final int cacheMinMatches;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionIndex() {
+        this(DEFAULT_CACHE_MIN_MATCHES);
+    }
+
+    SuggestionIndex(int cacheMinMatches) {
+        this.cacheMinMatches = cacheMinMatches;
+    }
+
+    public void upsert(long id, String name) {
+        upsertAll(Map.of(id, name));
+    }
+
+    public void upsertAll(Map<Long, String> names) {
+        lock.writeLock().lock();
+        try {
+            names.forEach((id, name) -> {
+                removeEntries(id);
+                Entry[] entries = entries(id, name);
+                for (Entry entry : entries) {
+                    keys.add(entry);
+                    for (int length = 1; length <= Math.min(longestCachedPrefix.get(), entry.keyLength()); length++) {
+                        cachedTops.computeIfPresent(entry.normalized().substring(entry.start(), entry.start() + length),
+                            (prefix, top) -> offered(top, entry));
+                    }
+                }
+                if (entries.length > 0) {
+                    entriesById.put(id, entries);
+                }
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeEntries(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entriesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = TextAnalyzer.normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Entry[] top = top(normalized).entries();
+            return Arrays.stream(top, 0, Math.min(limit, Math.min(MAX_SUGGESTIONS, top.length)))
+                .map(entry -> new Suggestion(entry.id(), entry.name()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The probe sorts before every key that starts with the prefix, so the matches are the run that follows it
+    private Top top(String prefix) {
+        Top cached = cachedTops.get(prefix);
+        if (cached != null) {
+            return cached;
+        }
+        Entry probe = new Entry(Long.MIN_VALUE, prefix, prefix, 0, 0);
+        Entry[] best = new Entry[CACHED_ENTRIES];
+        int count = 0;
+        int matches = 0;
+        for (Entry entry : keys.tailSet(probe, true)) {
+            if (!entry.keyStartsWith(prefix)) {
+                break;
+            }
+            matches++;
+            count = offer(best, count, entry);
+        }
+        // Entries are only pushed out of a full list
+        Top top = new Top(count == 0 ? NO_ENTRIES : Arrays.copyOf(best, count), count < CACHED_ENTRIES);
+        if (matches >= cacheMinMatches) {
+            cachedTops.putIfAbsent(prefix, top);
+            longestCachedPrefix.accumulateAndGet(prefix.length(), Math::max);
+        }
+        return top;
+    }
+
+    private static Entry[] entries(long id, String name) {
+        String normalized = TextAnalyzer.normalize(name);
+        if (normalized.isEmpty()) {
+            return NO_ENTRIES;
+        }
+        Entry[] entries = new Entry[(int) normalized.chars().filter(c -> c == ' ').count() + 1];
+        int start = 0;
+        for (int word = 0; word < entries.length; word++) {
+            entries[word] = new Entry(id, name, normalized, start, word);
+            start = normalized.indexOf(' ', start) + 1;
+        }
+        return entries;
+    }
+
+    private void removeEntries(long id) {
+        Entry[] entries = entriesById.remove(id);
+        if (entries == null) {
+            return;
+        }
+        for (Entry entry : entries) {
+            keys.remove(entry);
+            for (int length = 1; length <= Math.min(longestCachedPrefix.get(), entry.keyLength()); length++) {
+                cachedTops.computeIfPresent(entry.normalized().substring(entry.start(), entry.start() + length),
+                    (prefix, top) -> without(top, id));
+            }
+        }
+    }
+
+    // An incomplete list holds the best n products, but not the n+1th, so it only takes entries that rank above its last
+    private static Top offered(Top top, Entry entry) {
+        Entry[] entries = top.entries();
+        if (!top.complete() && compareRank(entry, entries[entries.length - 1]) >= 0) {
+            return top;
+        }
+        Entry[] best = Arrays.copyOf(entries, CACHED_ENTRIES);
+        int count = offer(best, entries.length, entry);
+        return new Top(Arrays.copyOf(best, count), top.complete() && entries.length < CACHED_ENTRIES);
+    }
+
+    // An incomplete list that runs short may be missing products it had pushed out, so it is dropped and
+    // rebuilt by the next read; null removes the mapping
+    private static Top without(Top top, long id) {
+        Entry[] remaining = Arrays.stream(top.entries()).filter(entry -> entry.id() != id).toArray(Entry[]::new);
+        if (remaining.length == top.entries().length) {
+            return top;
+        }
+        if (remaining.length == 0 || !top.complete() && remaining.length < MAX_SUGGESTIONS) {
+            return null;
+        }
+        return new Top(remaining, top.complete());
+    }
+
+    // A bounded insertion keeps the best best.length distinct products without sorting
+    private static int offer(Entry[] best, int count, Entry entry) {
+        if (count == best.length && compareRank(entry, best[count - 1]) >= 0) {
+            return count;
+        }
+        for (int i = 0; i < count; i++) {
+            if (best[i].id() == entry.id()) {
+                if (compareRank(entry, best[i]) >= 0) {
+                    return count;
+                }
+                System.arraycopy(best, i + 1, best, i, count - i - 1);
+                count--;
+                break;
+            }
+        }
+        // When full, the last entry is the one pushed out
+        int position = Math.min(count, best.length - 1);
+        while (position > 0 && compareRank(entry, best[position - 1]) < 0) {
+            best[position] = best[position - 1];
+            position--;
+        }
+        best[position] = entry;
+        return Math.min(count + 1, best.length);
+    }
+
+    // Name-start matches first, then shorter names, then alphabetically by key and id
+    private static int compareRank(Entry left, Entry right) {
+        if (left.word() != right.word()) {
+            return Integer.compare(left.word(), right.word());
+        }
+        if (left.name().length() != right.name().length()) {
+            return Integer.compare(left.name().length(), right.name().length());
+        }
+        int byKey = compareKeyText(left, right);
+        return byKey != 0 ? byKey : Long.compare(left.id(), right.id());
+    }
+
+    private static int compareKeys(Entry left, Entry right) {
+        int byKey = compareKeyText(left, right);
+        if (byKey != 0) {
+            return byKey;
+        }
+        int byId = Long.compare(left.id(), right.id());
+        return byId != 0 ? byId : Integer.compare(left.start(), right.start());
+    }
+
+    private static int compareKeyText(Entry left, Entry right) {
+        int length = Math.min(left.keyLength(), right.keyLength());
+        for (int i = 0; i < length; i++) {
+            char a = left.normalized().charAt(left.start() + i);
+            char b = right.normalized().charAt(right.start() + i);
+            if (a != b) {
+                return Character.compare(a, b);
+            }
+        }
+        return Integer.compare(left.keyLength(), right.keyLength());
+    }
+}
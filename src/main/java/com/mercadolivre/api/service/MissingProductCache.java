@@ -0,0 +1,106 @@
+package com.mercadolivre.api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.mercadolivre.api.cache.LongBloomFilter;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+
+// Short-lived memory of ids that were looked up and not found, plus an optional Bloom filter of
+// every known id. The filter only learns about products created through this node, so it must stay
+// off when several replicas or other writers share the database.
+@Component
+public class MissingProductCache {
+
+    public static final String MISSING_PRODUCTS_CACHE = "missingProducts";
+
+    private static final Logger log = LoggerFactory.getLogger(MissingProductCache.class);
+
+    private final Cache missingIds;
+    private final ProductRepository productRepository;
+    private final LongBloomFilter knownIds;
+    private final AtomicLong creations = new AtomicLong();
+    private final LongAdder filterRejections = new LongAdder();
+    private volatile boolean knownIdsLoaded;
+
+    public MissingProductCache(CacheManager cacheManager, ProductRepository productRepository,
+            @Value("${products.cache.id-filter.enabled:false}") boolean idFilterEnabled,
+            @Value("${products.cache.id-filter.expected-ids:1000000}") long expectedIds,
+            @Value("${products.cache.id-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.missingIds = cacheManager.getCache(MISSING_PRODUCTS_CACHE);
+        this.productRepository = productRepository;
+        this.knownIds = idFilterEnabled ? new LongBloomFilter(expectedIds, falsePositiveRate) : null;
+    }
+
+    // Taken before querying the database and handed back to markMissing
+    public long creationStamp() {
+        return creations.get();
+    }
+
+    public boolean isKnownMissing(Long id) {
+        if (knownIds != null && knownIdsLoaded && !knownIds.mightContain(id)) {
+            filterRejections.increment();
+            return true;
+        }
+        return missingIds != null && missingIds.get(id) != null;
+    }
+
+    public void markMissing(Long id, long creationStamp) {
+        // A product committed while the lookup ran may already be this id, so the miss is not remembered
+        if (missingIds != null && creations.get() == creationStamp) {
+            missingIds.put(id, Boolean.TRUE);
+        }
+    }
+
+    public long filterRejectionCount() {
+        return filterRejections.sum();
+    }
+
+    @EventListener
+    public void onProductCreating(ProductChangedEvent event) {
+        // Runs before commit: a false positive costs one query, a missing id would hide a real product
+        if (knownIds != null && event.type() == ProductChangedEvent.ChangeType.CREATED) {
+            knownIds.put(event.id());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductCreated(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.ChangeType.CREATED) {
+            creations.incrementAndGet();
+            if (missingIds != null) {
+                missingIds.evict(event.id());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadKnownIds() {
+        if (knownIds == null) {
+            return;
+        }
+        LongAdder count = new LongAdder();
+        try (Stream<Long> ids = productRepository.streamAllIds()) {
+            ids.forEach(id -> {
+                knownIds.put(id);
+                count.increment();
+            });
+        }
+        knownIdsLoaded = true;
+        log.info("Product id filter loaded with {} ids", count.sum());
+    }
+}
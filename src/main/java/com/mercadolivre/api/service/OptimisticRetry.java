@@ -0,0 +1,66 @@
+package com.mercadolivre.api.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Runs a read-modify-write in its own transaction and, when another writer committed the same
+// row first (the @Version check failed), re-runs it from a fresh read a bounded number of times
+@Component
+public class OptimisticRetry {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final TransactionTemplate transaction;
+    private final int maxAttempts;
+    private final Duration backoff;
+
+    public OptimisticRetry(PlatformTransactionManager transactionManager,
+            @Value("${products.updates.max-attempts:5}") int maxAttempts,
+            @Value("${products.updates.retry-backoff:5ms}") Duration backoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("products.updates.max-attempts must be at least 1");
+        }
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+    }
+
+    // With retryOnConflict false the conflict is rethrown at once, for callers that asked for a specific version
+    public <T> T execute(boolean retryOnConflict, Supplier<T> work) {
+        int attempts = retryOnConflict ? maxAttempts : 1;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= attempts) {
+                    throw e;
+                }
+                log.debug("Optimistic lock conflict, retrying (attempt {} of {})", attempt + 1, attempts);
+                pause(attempt, e);
+            }
+        }
+    }
+
+    // Grows with the attempt and is jittered so colliding writers do not retry in lockstep
+    private void pause(int attempt, OptimisticLockingFailureException conflict) {
+        long maxMillis = backoff.toMillis() * attempt;
+        if (maxMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(maxMillis / 2, maxMillis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
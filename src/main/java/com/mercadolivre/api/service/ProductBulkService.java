@@ -0,0 +1,17 @@
+package com.mercadolivre.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.mercadolivre.api.dto.ProductBatchItemDTO;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductImportResultDTO;
+import com.mercadolivre.api.importer.ProductImportFormat;
+
+public interface ProductBulkService {
+    ProductBatchResponseDTO applyBatch(List<ProductBatchItemDTO> items);
+    long exportProducts(OutputStream outputStream) throws IOException;
+    ProductImportResultDTO importProducts(InputStream inputStream, ProductImportFormat format) throws IOException;
+}
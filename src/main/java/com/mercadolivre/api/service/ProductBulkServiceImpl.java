@@ -0,0 +1,375 @@
+package com.mercadolivre.api.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mercadolivre.api.dto.ProductBatchItemDTO;
+import com.mercadolivre.api.dto.ProductBatchItemStatus;
+import com.mercadolivre.api.dto.ProductBatchOperation;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductBatchResultDTO;
+import com.mercadolivre.api.dto.ProductImportErrorDTO;
+import com.mercadolivre.api.dto.ProductImportResultDTO;
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.importer.ProductImportFormat;
+import com.mercadolivre.api.importer.ProductImportReader;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class ProductBulkServiceImpl implements ProductBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductBulkServiceImpl.class);
+
+    private static final String PRODUCTS_CACHE = "products";
+    private static final int MAX_REPORTED_IMPORT_ERRORS = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final EntityManager entityManager;
+    private final ObjectWriter productWriter;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ProductBulkServiceImpl(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            CacheManager cacheManager,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${products.bulk.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Bulk chunk size must be positive: " + chunkSize);
+        }
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheManager = cacheManager;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.productWriter = objectMapper.writerFor(ProductResponseDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public ProductBatchResponseDTO applyBatch(List<ProductBatchItemDTO> items) {
+        Objects.requireNonNull(items, "Batch items cannot be null");
+        log.debug("Applying product batch: items={}, chunkSize={}", items.size(), chunkSize);
+
+        ProductBatchResultDTO[] results = new ProductBatchResultDTO[items.size()];
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            applyChunk(items, start, Math.min(start + chunkSize, items.size()), results);
+        }
+
+        List<ProductBatchResultDTO> resultList = Arrays.asList(results);
+        int failed = (int) resultList.stream().filter(result -> !isSuccess(result.status())).count();
+        log.info("Product batch applied: total={}, succeeded={}, failed={}", items.size(), items.size() - failed, failed);
+        return new ProductBatchResponseDTO(items.size(), items.size() - failed, failed, resultList);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportProducts(OutputStream outputStream) throws IOException {
+        Objects.requireNonNull(outputStream, "Output stream cannot be null");
+        log.debug("Exporting products as NDJSON");
+
+        long exported = 0;
+        try (Stream<Product> products = productRepository.streamAllBy();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                productWriter.writeValue(generator, productMapper.toDto(product));
+                generator.writeRaw('\n');
+                // Detached rows are not retained by the persistence context, so heap stays flat
+                entityManager.detach(product);
+
+                if (++exported % ProductRepository.STREAM_FETCH_SIZE == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+
+        log.info("Exported {} products", exported);
+        return exported;
+    }
+
+    @Override
+    public ProductImportResultDTO importProducts(InputStream inputStream, ProductImportFormat format) throws IOException {
+        Objects.requireNonNull(inputStream, "Input stream cannot be null");
+        Objects.requireNonNull(format, "Import format cannot be null");
+        log.debug("Importing products: format={}, chunkSize={}", format, chunkSize);
+
+        ImportProgress progress = new ImportProgress();
+        List<ProductImportReader.Row> chunk = new ArrayList<>(chunkSize);
+        try (ProductImportReader reader = format == ProductImportFormat.CSV
+                ? ProductImportReader.csv(inputStream)
+                : ProductImportReader.ndjson(inputStream, objectMapper)) {
+            ProductImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                progress.processed++;
+                String error = row.error() != null ? row.error() : validationMessage(row.product());
+                if (error != null) {
+                    progress.fail(row.line(), error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, progress);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, progress);
+        }
+
+        log.info("Product import finished: processed={}, imported={}, failed={}",
+            progress.processed, progress.imported, progress.failed);
+        return new ProductImportResultDTO(progress.processed, progress.imported, progress.failed,
+            progress.errors, progress.failed > progress.errors.size());
+    }
+
+    private void importChunk(List<ProductImportReader.Row> chunk, ImportProgress progress) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Product> products = new ArrayList<>(chunk.size());
+                for (ProductImportReader.Row row : chunk) {
+                    products.add(productMapper.toEntity(row.product()));
+                }
+                productRepository.saveAll(products);
+                productRepository.flush();
+                for (Product product : products) {
+                    eventPublisher.publishEvent(ProductChangedEvent.created(productMapper.toDto(product)));
+                }
+                // Nothing from a finished chunk is needed again, so the next one starts from an empty context
+                entityManager.clear();
+            });
+            progress.imported += chunk.size();
+            log.info("Product import progress: processed={}, imported={}, failed={}",
+                progress.processed, progress.imported, progress.failed);
+        } catch (RuntimeException ex) {
+            log.warn("Product import chunk at lines [{}, {}] rolled back: {}",
+                chunk.get(0).line(), chunk.get(chunk.size() - 1).line(), ex.getMessage());
+            for (ProductImportReader.Row row : chunk) {
+                progress.fail(row.line(), "Chunk rolled back: " + ex.getMessage());
+            }
+        }
+        chunk.clear();
+    }
+
+    private void applyChunk(List<ProductBatchItemDTO> items, int start, int end, ProductBatchResultDTO[] results) {
+        List<Integer> pending = new ArrayList<>(end - start);
+        for (int index = start; index < end; index++) {
+            ProductBatchItemDTO item = items.get(index);
+            String error = validate(item);
+            if (error != null) {
+                results[index] = result(index, item, item == null ? null : item.id(), ProductBatchItemStatus.INVALID, null, error);
+            } else {
+                pending.add(index);
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Integer, ProductBatchResultDTO> applied = transactionTemplate.execute(status -> applyInTransaction(items, pending));
+            Objects.requireNonNull(applied, "Chunk results cannot be null");
+            applied.forEach((index, result) -> results[index] = result);
+            refreshCache(applied.values());
+        } catch (RuntimeException ex) {
+            log.warn("Product batch chunk [{}, {}) rolled back: {}", start, end, ex.getMessage());
+            for (int index : pending) {
+                ProductBatchItemDTO item = items.get(index);
+                results[index] = result(index, item, item.id(), ProductBatchItemStatus.FAILED, null,
+                    "Chunk rolled back: " + ex.getMessage());
+            }
+        }
+    }
+
+    private Map<Integer, ProductBatchResultDTO> applyInTransaction(List<ProductBatchItemDTO> items, List<Integer> pending) {
+        Set<Long> ids = new HashSet<>();
+        for (int index : pending) {
+            ProductBatchItemDTO item = items.get(index);
+            if (item.operation() != ProductBatchOperation.CREATE) {
+                ids.add(item.id());
+            }
+        }
+
+        // One SELECT ... IN for every product the chunk updates or deletes
+        Map<Long, Product> existing = ids.isEmpty()
+                ? new HashMap<>()
+                : productRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(Product::getId, product -> product));
+
+        Map<Integer, Product> touched = new LinkedHashMap<>();
+        List<Product> toCreate = new ArrayList<>();
+        List<Product> toDelete = new ArrayList<>();
+        Map<Integer, ProductBatchResultDTO> results = new LinkedHashMap<>();
+
+        for (int index : pending) {
+            ProductBatchItemDTO item = items.get(index);
+            switch (item.operation()) {
+                case CREATE -> {
+                    Product product = productMapper.toEntity(item.product());
+                    toCreate.add(product);
+                    touched.put(index, product);
+                }
+                case UPDATE, DELETE -> {
+                    Product product = existing.get(item.id());
+                    if (product == null) {
+                        results.put(index, result(index, item, item.id(), ProductBatchItemStatus.NOT_FOUND, null,
+                            "Product not found with id: " + item.id()));
+                    } else if (item.operation() == ProductBatchOperation.UPDATE) {
+                        productMapper.updateEntityFromDto(item.product(), product);
+                        touched.put(index, product);
+                    } else {
+                        toDelete.add(product);
+                        touched.put(index, product);
+                    }
+                }
+            }
+        }
+
+        // Sequence ids are assigned on persist, so Hibernate can group these INSERTs, and the dirty
+        // updates and removals, into JDBC batches at flush time
+        productRepository.saveAll(toCreate);
+        productRepository.deleteAll(toDelete);
+        productRepository.flush();
+
+        touched.forEach((index, product) -> {
+            ProductBatchItemDTO item = items.get(index);
+            ProductBatchItemStatus status = switch (item.operation()) {
+                case CREATE -> ProductBatchItemStatus.CREATED;
+                case UPDATE -> ProductBatchItemStatus.UPDATED;
+                case DELETE -> ProductBatchItemStatus.DELETED;
+            };
+            ProductResponseDTO dto = status == ProductBatchItemStatus.DELETED ? null : productMapper.toDto(product);
+            results.put(index, result(index, item, product.getId(), status, dto, null));
+            eventPublisher.publishEvent(switch (status) {
+                case CREATED -> ProductChangedEvent.created(dto);
+                case UPDATED -> ProductChangedEvent.updated(dto);
+                default -> ProductChangedEvent.deleted(product.getId());
+            });
+        });
+        return results;
+    }
+
+    private void refreshCache(Iterable<ProductBatchResultDTO> results) {
+        Cache cache = cacheManager.getCache(PRODUCTS_CACHE);
+        if (cache == null) {
+            return;
+        }
+        for (ProductBatchResultDTO result : results) {
+            if (result.status() == ProductBatchItemStatus.UPDATED) {
+                cache.put(result.id(), result.product());
+            } else if (result.status() == ProductBatchItemStatus.DELETED) {
+                cache.evict(result.id());
+            }
+        }
+    }
+
+    private String validate(ProductBatchItemDTO item) {
+        if (item == null || item.operation() == null) {
+            return "Operation is required";
+        }
+        if (item.operation() != ProductBatchOperation.CREATE && (item.id() == null || item.id() <= 0)) {
+            return "A positive id is required for " + item.operation();
+        }
+        if (item.operation() == ProductBatchOperation.DELETE) {
+            return null;
+        }
+
+        if (item.product() == null) {
+            return "Product is required for " + item.operation();
+        }
+        return validationMessage(item.product());
+    }
+
+    private String validationMessage(ProductRequestDTO product) {
+        Set<ConstraintViolation<ProductRequestDTO>> violations = validator.validate(product);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static boolean isSuccess(ProductBatchItemStatus status) {
+        return status == ProductBatchItemStatus.CREATED
+                || status == ProductBatchItemStatus.UPDATED
+                || status == ProductBatchItemStatus.DELETED;
+    }
+
+    private static ProductBatchResultDTO result(int index, ProductBatchItemDTO item, Long id,
+            ProductBatchItemStatus status, ProductResponseDTO product, String message) {
+        return new ProductBatchResultDTO(index, item == null ? null : item.operation(), id, status, product, message);
+    }
+
+    private static final class ImportProgress {
+        private final List<ProductImportErrorDTO> errors = new ArrayList<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_IMPORT_ERRORS) {
+                errors.add(new ProductImportErrorDTO(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.mercadolivre.api.service;
+
+import org.springframework.stereotype.Component;
+
+import com.mercadolivre.api.cache.CacheRefreshLoader;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@Component
+public class ProductCacheRefreshLoader implements CacheRefreshLoader {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+
+    public ProductCacheRefreshLoader(ProductRepository productRepository, ProductMapper productMapper) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+    }
+
+    @Override
+    public String cacheName() {
+        return "products";
+    }
+
+    @Override
+    public Object load(Object key) {
+        // A product deleted since it was cached comes back as null and leaves the cache
+        return productRepository.findById((Long) key)
+            .map(productMapper::toDto)
+            .orElse(null);
+    }
+}
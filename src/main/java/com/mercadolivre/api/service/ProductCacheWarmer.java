@@ -0,0 +1,231 @@
+package com.mercadolivre.api.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.mercadolivre.api.cache.HotIdSnapshot;
+import com.mercadolivre.api.cache.TwoTierCache;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+// Preloads the hottest product ids into the products cache. Runners finish before Boot publishes
+// ReadinessState.ACCEPTING_TRAFFIC, so the readiness probe only flips once the cache is warm
+// (or the timeout expires). The hot ids come from the configured list and from a snapshot of the
+// cache's hottest entries that the previous instance left behind.
+@Component
+public class ProductCacheWarmer implements ApplicationRunner {
+
+    public enum State { PENDING, WARMING, COMPLETED, TIMED_OUT, FAILED, DISABLED }
+
+    public record Progress(State state, int hotIds, int loaded, long elapsedMillis) {
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(ProductCacheWarmer.class);
+    private static final String PRODUCTS_CACHE = "products";
+
+    private final CacheManager cacheManager;
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final boolean enabled;
+    private final int topN;
+    private final List<Long> configuredIds;
+    private final HotIdSnapshot snapshot;
+    private final Duration snapshotInterval;
+    private final int chunkSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private final AtomicInteger loaded = new AtomicInteger();
+    private volatile State state = State.PENDING;
+    private volatile int hotIds;
+    private volatile long startedAt;
+    private volatile long finishedAt;
+    private ScheduledExecutorService snapshotScheduler;
+
+    public ProductCacheWarmer(CacheManager cacheManager, ProductRepository productRepository, ProductMapper productMapper,
+            @Value("${products.cache.warmup.enabled:true}") boolean enabled,
+            @Value("${products.cache.warmup.top-n:500}") int topN,
+            @Value("${products.cache.warmup.ids:}") List<Long> configuredIds,
+            @Value("${products.cache.warmup.snapshot-file:}") String snapshotFile,
+            @Value("${products.cache.warmup.snapshot-interval:5m}") Duration snapshotInterval,
+            @Value("${products.cache.warmup.chunk-size:100}") int chunkSize,
+            @Value("${products.cache.warmup.parallelism:4}") int parallelism,
+            @Value("${products.cache.warmup.timeout:30s}") Duration timeout) {
+        this.cacheManager = cacheManager;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.enabled = enabled;
+        this.topN = topN;
+        this.configuredIds = List.copyOf(configuredIds);
+        this.snapshot = StringUtils.hasText(snapshotFile) ? new HotIdSnapshot(Path.of(snapshotFile)) : null;
+        this.snapshotInterval = snapshotInterval;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            state = State.DISABLED;
+            return;
+        }
+        startedAt = System.nanoTime();
+        state = State.WARMING;
+        List<Long> ids = hotIds();
+        hotIds = ids.size();
+        State result = load(ids);
+        finishedAt = System.nanoTime();
+        state = result;
+        log.info("Products cache warm-up {}: {} of {} hot products loaded in {} ms",
+            result, loaded.get(), ids.size(), progress().elapsedMillis());
+        scheduleSnapshots();
+    }
+
+    public Progress progress() {
+        State current = state;
+        if (current == State.PENDING || current == State.DISABLED) {
+            return new Progress(current, 0, 0, 0);
+        }
+        long end = current == State.WARMING ? System.nanoTime() : finishedAt;
+        return new Progress(current, hotIds, loaded.get(), TimeUnit.NANOSECONDS.toMillis(end - startedAt));
+    }
+
+    // Configured ids first, then the previous instance's hottest ones
+    private List<Long> hotIds() {
+        Set<Long> ids = new LinkedHashSet<>(configuredIds);
+        if (snapshot != null) {
+            try {
+                ids.addAll(snapshot.read());
+            } catch (IOException e) {
+                log.warn("Could not read hot product snapshot {}", snapshot.file(), e);
+            }
+        }
+        return ids.stream().limit(topN).toList();
+    }
+
+    private State load(List<Long> ids) {
+        Cache products = cacheManager.getCache(PRODUCTS_CACHE);
+        if (products == null || ids.isEmpty()) {
+            return State.COMPLETED;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("cache-warmup-"));
+        try {
+            List<CompletableFuture<Void>> chunks = new ArrayList<>();
+            for (int from = 0; from < ids.size(); from += chunkSize) {
+                List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+                chunks.add(CompletableFuture.runAsync(() -> loadChunk(products, chunk), executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return State.COMPLETED;
+        } catch (TimeoutException e) {
+            log.warn("Products cache warm-up timed out after {}", timeout);
+            return State.TIMED_OUT;
+        } catch (ExecutionException e) {
+            log.warn("Products cache warm-up failed", e.getCause());
+            return State.FAILED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return State.FAILED;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void loadChunk(Cache products, List<Long> chunk) {
+        Cache target = products;
+        List<Long> pending = chunk;
+        if (products instanceof TwoTierCache twoTier) {
+            // Shared-tier hits are copied into L1 by getAll and need no query
+            Map<Object, Object> shared = twoTier.getAll(chunk);
+            loaded.addAndGet(shared.size());
+            pending = chunk.stream().filter(id -> !shared.containsKey(id)).toList();
+            target = twoTier.getLocalCache();
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        for (Product product : productRepository.findAllById(pending)) {
+            // Local only, so other replicas are not invalidated, and only if absent, so a
+            // concurrent update's newer value wins
+            target.putIfAbsent(product.getId(), productMapper.toDto(product));
+            loaded.incrementAndGet();
+        }
+    }
+
+    private void scheduleSnapshots() {
+        if (snapshot == null || snapshotInterval.isZero()) {
+            return;
+        }
+        CustomizableThreadFactory threads = new CustomizableThreadFactory("cache-warmup-snapshot-");
+        threads.setDaemon(true);
+        snapshotScheduler = Executors.newSingleThreadScheduledExecutor(threads);
+        long interval = snapshotInterval.toMillis();
+        snapshotScheduler.scheduleWithFixedDelay(this::writeSnapshot, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onShutdown() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdownNow();
+        }
+        if (snapshot != null) {
+            writeSnapshot();
+        }
+    }
+
+    void writeSnapshot() {
+        List<Long> hottest = hottestIds();
+        // An empty cache (a failed start, say) would overwrite a useful snapshot
+        if (hottest.isEmpty()) {
+            return;
+        }
+        try {
+            snapshot.write(hottest);
+            log.debug("Wrote {} hot product ids to {}", hottest.size(), snapshot.file());
+        } catch (IOException e) {
+            log.warn("Could not write hot product snapshot {}", snapshot.file(), e);
+        }
+    }
+
+    // Caffeine orders a bounded cache from the entries its TinyLFU policy is most likely to retain
+    List<Long> hottestIds() {
+        Cache products = cacheManager.getCache(PRODUCTS_CACHE);
+        if (products == null || !(products.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine)) {
+            return List.of();
+        }
+        Stream<?> keys = caffeine.policy().eviction()
+            .<Stream<?>>map(eviction -> eviction.hottest(topN).keySet().stream())
+            .orElseGet(() -> caffeine.asMap().keySet().stream());
+        return keys.filter(Long.class::isInstance).map(Long.class::cast).limit(topN).toList();
+    }
+}
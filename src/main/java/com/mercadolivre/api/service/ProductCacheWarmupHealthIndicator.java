@@ -0,0 +1,32 @@
+package com.mercadolivre.api.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+// Part of the readiness group: OUT_OF_SERVICE while the products cache warms up. A warm-up that
+// timed out or failed still reports UP, since a cold cache is slower but serves correctly.
+@Component
+public class ProductCacheWarmupHealthIndicator implements HealthIndicator {
+
+    private final ProductCacheWarmer warmer;
+
+    public ProductCacheWarmupHealthIndicator(ProductCacheWarmer warmer) {
+        this.warmer = warmer;
+    }
+
+    @Override
+    public Health health() {
+        ProductCacheWarmer.Progress progress = warmer.progress();
+        Health.Builder health = switch (progress.state()) {
+            case PENDING, WARMING -> Health.outOfService();
+            default -> Health.up();
+        };
+        return health
+            .withDetail("state", progress.state())
+            .withDetail("hotIds", progress.hotIds())
+            .withDetail("loaded", progress.loaded())
+            .withDetail("elapsedMs", progress.elapsedMillis())
+            .build();
+    }
+}
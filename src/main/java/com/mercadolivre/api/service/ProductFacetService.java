@@ -0,0 +1,8 @@
+package com.mercadolivre.api.service;
+
+import com.mercadolivre.api.dto.ProductFacetsDTO;
+
+public interface ProductFacetService {
+    ProductFacetsDTO getFacets();
+    ProductFacetsDTO rebuild();
+}
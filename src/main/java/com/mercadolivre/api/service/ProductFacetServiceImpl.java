@@ -0,0 +1,132 @@
+package com.mercadolivre.api.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mercadolivre.api.dto.PriceBucketDTO;
+import com.mercadolivre.api.dto.ProductFacetsDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceHistogram;
+
+// Counters only see writes made through this node; rebuild() recounts the table and is the
+// reconciliation path when replicas or other writers share the database
+@Service
+public class ProductFacetServiceImpl implements ProductFacetService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductFacetServiceImpl.class);
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final long[] upperBoundsCents;
+    // Writers share the read lock so the striped counters stay uncontended; the rebuild handoff takes the write lock
+    private final ReadWriteLock handoff = new ReentrantReadWriteLock();
+    private final Map<Long, Optional<Long>> changedDuringRebuild = new ConcurrentHashMap<>();
+    private volatile PriceHistogram histogram;
+    private volatile boolean rebuilding;
+
+    public ProductFacetServiceImpl(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+            @Value("${products.facets.price-buckets:50,100,250,500,1000,2500,5000}") BigDecimal[] priceBuckets) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.upperBoundsCents = Arrays.stream(priceBuckets).mapToLong(ProductPriceIndex::toCents).toArray();
+        this.histogram = new PriceHistogram(upperBoundsCents);
+    }
+
+    @Override
+    public ProductFacetsDTO getFacets() {
+        long[] counts = histogram.counts();
+        List<PriceBucketDTO> buckets = new ArrayList<>(counts.length);
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            BigDecimal min = i == 0 ? BigDecimal.ZERO.setScale(2) : BigDecimal.valueOf(upperBoundsCents[i - 1], 2);
+            BigDecimal max = i < upperBoundsCents.length ? BigDecimal.valueOf(upperBoundsCents[i], 2) : null;
+            buckets.add(new PriceBucketDTO(min, max, counts[i]));
+            total += counts[i];
+        }
+        return new ProductFacetsDTO(total, buckets);
+    }
+
+    // A listener that returns a value has it published as an event, so startup goes through a void method
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuild();
+    }
+
+    @Override
+    public synchronized ProductFacetsDTO rebuild() {
+        long start = System.nanoTime();
+        long previousTotal = Arrays.stream(histogram.counts()).sum();
+        rebuilding = true;
+        PriceHistogram rebuilt = new PriceHistogram(upperBoundsCents);
+        boolean completed = false;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ProductResponseDTO> products = productRepository.streamAllAsDto()) {
+                    products.forEach(product -> rebuilt.upsert(product.id(), ProductPriceIndex.toCents(product.price())));
+                }
+            });
+            completed = true;
+        } finally {
+            handoff.writeLock().lock();
+            try {
+                // A write event seen during the rebuild is newer than the row read by the cursor; a failed
+                // rebuild keeps the current counters
+                if (completed) {
+                    changedDuringRebuild.forEach((id, cents) -> apply(rebuilt, id, cents.orElse(null)));
+                    histogram = rebuilt;
+                }
+                changedDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                handoff.writeLock().unlock();
+            }
+        }
+        ProductFacetsDTO facets = getFacets();
+        log.info("Facet counters rebuilt with {} products in {} ms (previously {})",
+            facets.totalProducts(), (System.nanoTime() - start) / 1_000_000, previousTotal);
+        return facets;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Long cents = event.type() == ProductChangedEvent.ChangeType.DELETED ? null : ProductPriceIndex.toCents(event.product().price());
+        handoff.readLock().lock();
+        try {
+            apply(histogram, event.id(), cents);
+            if (rebuilding) {
+                changedDuringRebuild.put(event.id(), Optional.ofNullable(cents));
+            }
+        } finally {
+            handoff.readLock().unlock();
+        }
+    }
+
+    private static void apply(PriceHistogram target, Long id, Long cents) {
+        if (cents == null) {
+            target.remove(id);
+        } else {
+            target.upsert(id, cents);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.mercadolivre.api.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceIndex;
+
+// Optional in-memory (price, id) index for price-range listings. Like the id filter it only sees
+// writes made through this node, so it must stay off when replicas or other writers share the database.
+@Component
+public class ProductPriceIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductPriceIndex.class);
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final PriceIndex index;
+    private final Map<Long, Long> changedDuringRebuild = new HashMap<>();
+    private final Object indexWrites = new Object();
+    private boolean rebuilding;
+    private volatile boolean ready;
+
+    public ProductPriceIndex(ProductRepository productRepository, PlatformTransactionManager transactionManager,
+            @Value("${products.price-index.enabled:false}") boolean enabled) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = enabled ? new PriceIndex() : null;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Empty until the index has been loaded, so callers fall back to the database
+    public Optional<PriceIndex.Result> range(BigDecimal minPrice, BigDecimal maxPrice, boolean descending, int offset, int limit) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        long minCents = minPrice == null ? Long.MIN_VALUE : minPrice.setScale(2, RoundingMode.CEILING).unscaledValue().longValueExact();
+        long maxCents = maxPrice == null ? Long.MAX_VALUE : maxPrice.setScale(2, RoundingMode.FLOOR).unscaledValue().longValueExact();
+        return Optional.of(index.range(minCents, maxCents, descending, offset, limit));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (index == null) {
+            return;
+        }
+        Long cents = event.type() == ProductChangedEvent.ChangeType.DELETED ? null : toCents(event.product().price());
+        synchronized (indexWrites) {
+            if (rebuilding) {
+                changedDuringRebuild.put(event.id(), cents);
+            } else {
+                apply(event.id(), cents);
+            }
+        }
+    }
+
+    // Ids a reader found missing from the database, e.g. deleted by a writer this node did not see
+    public void discard(Collection<Long> ids) {
+        if (index == null) {
+            return;
+        }
+        synchronized (indexWrites) {
+            for (Long id : ids) {
+                if (rebuilding) {
+                    changedDuringRebuild.put(id, null);
+                } else {
+                    index.remove(id);
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        if (index == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (indexWrites) {
+            rebuilding = true;
+        }
+        boolean succeeded = false;
+        try {
+            int loaded = readOnlyTransaction.execute(status -> {
+                long[] ids = new long[1024];
+                long[] cents = new long[1024];
+                int count = 0;
+                try (Stream<ProductResponseDTO> products = productRepository.streamAllAsDto()) {
+                    for (ProductResponseDTO product : (Iterable<ProductResponseDTO>) products::iterator) {
+                        if (count == ids.length) {
+                            ids = Arrays.copyOf(ids, count * 2);
+                            cents = Arrays.copyOf(cents, count * 2);
+                        }
+                        ids[count] = product.id();
+                        cents[count] = toCents(product.price());
+                        count++;
+                    }
+                }
+                synchronized (indexWrites) {
+                    index.load(Arrays.copyOf(ids, count), Arrays.copyOf(cents, count));
+                }
+                return count;
+            });
+            succeeded = true;
+            log.info("Price index rebuilt with {} products in {} ms", loaded, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            synchronized (indexWrites) {
+                // A write event seen during the rebuild is newer than the row read by the cursor
+                changedDuringRebuild.forEach(this::apply);
+                changedDuringRebuild.clear();
+                rebuilding = false;
+                // Readers only see the index once those writes are in, and never a half-loaded one
+                if (succeeded) {
+                    ready = true;
+                }
+            }
+        }
+    }
+
+    private void apply(Long id, Long cents) {
+        if (cents == null) {
+            index.remove(id);
+        } else {
+            index.upsert(id, cents);
+        }
+    }
+
+    static long toCents(BigDecimal price) {
+        return price.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
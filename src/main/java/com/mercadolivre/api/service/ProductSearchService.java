@@ -0,0 +1,9 @@
+package com.mercadolivre.api.service;
+
+import com.mercadolivre.api.dto.ProductSearchResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestResponseDTO;
+
+public interface ProductSearchService {
+    ProductSearchResponseDTO search(String query, int page, int size);
+    ProductSuggestResponseDTO suggest(String prefix, int size);
+}
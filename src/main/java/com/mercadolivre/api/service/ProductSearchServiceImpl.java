@@ -0,0 +1,179 @@
+package com.mercadolivre.api.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.mercadolivre.api.dto.ProductLookupResultDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSearchHitDTO;
+import com.mercadolivre.api.dto.ProductSearchResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestionDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.InvertedIndex;
+import com.mercadolivre.api.search.SuggestionIndex;
+import com.mercadolivre.api.search.TextAnalyzer;
+
+@Service
+public class ProductSearchServiceImpl implements ProductSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchServiceImpl.class);
+
+    // Name terms count twice so a match in the name outranks the same word in a description
+    static final int NAME_WEIGHT = 2;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final InvertedIndex index = new InvertedIndex();
+    private final SuggestionIndex suggestions = new SuggestionIndex();
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private final Object indexWrites = new Object();
+    private volatile boolean rebuilding;
+
+    public ProductSearchServiceImpl(ProductRepository productRepository, ProductService productService,
+            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public ProductSearchResponseDTO search(String query, int page, int size) {
+        Objects.requireNonNull(query, "Query cannot be null");
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        if (terms.isEmpty()) {
+            throw new IllegalArgumentException("Query must contain at least one searchable term");
+        }
+
+        InvertedIndex.Result result = index.search(terms, (long) page * size, size);
+        log.debug("Search '{}' matched {} products", query, result.totalHits());
+        if (result.hits().isEmpty()) {
+            return new ProductSearchResponseDTO(query, result.totalHits(), page, size, List.of());
+        }
+
+        // Hits only carry ids; the products come from the cache-backed multi-get
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::id).toList();
+        Map<Long, ProductResponseDTO> products = productService.getProductsByIds(ids).results().stream()
+            .filter(ProductLookupResultDTO::found)
+            .collect(Collectors.toMap(ProductLookupResultDTO::id, ProductLookupResultDTO::product, (first, second) -> first));
+
+        List<ProductSearchHitDTO> hits = result.hits().stream()
+            .filter(hit -> products.containsKey(hit.id()))
+            .map(hit -> new ProductSearchHitDTO(hit.score(), products.get(hit.id())))
+            .toList();
+        return new ProductSearchResponseDTO(query, result.totalHits(), page, size, hits);
+    }
+
+    @Override
+    public ProductSuggestResponseDTO suggest(String prefix, int size) {
+        Objects.requireNonNull(prefix, "Prefix cannot be null");
+        if (size < 1 || size > SuggestionIndex.MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Size must be between 1 and " + SuggestionIndex.MAX_SUGGESTIONS);
+        }
+        // Served entirely from memory: no cache or database access per keystroke
+        List<ProductSuggestionDTO> matches = suggestions.suggest(prefix, size).stream()
+            .map(suggestion -> new ProductSuggestionDTO(suggestion.id(), suggestion.name()))
+            .toList();
+        return new ProductSuggestResponseDTO(prefix, matches);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        synchronized (indexWrites) {
+            if (rebuilding) {
+                changedDuringRebuild.add(event.id());
+            }
+            if (event.type() == ProductChangedEvent.ChangeType.DELETED) {
+                index.remove(event.id());
+                suggestions.remove(event.id());
+            } else {
+                index.upsert(event.id(), termFrequencies(event.product()));
+                suggestions.upsert(event.id(), event.product().name());
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long start = System.nanoTime();
+        rebuilding = true;
+        try {
+            long indexed = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                List<ProductResponseDTO> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                try (Stream<ProductResponseDTO> products = productRepository.streamAllAsDto()) {
+                    for (ProductResponseDTO product : (Iterable<ProductResponseDTO>) products::iterator) {
+                        batch.add(product);
+                        if (batch.size() == REBUILD_BATCH_SIZE) {
+                            count += indexBatch(batch);
+                            batch.clear();
+                        }
+                    }
+                }
+                return count + indexBatch(batch);
+            });
+            log.info("Search index rebuilt with {} products in {} ms", indexed, (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    int indexedDocuments() {
+        return index.size();
+    }
+
+    int suggestableProducts() {
+        return suggestions.size();
+    }
+
+    // Tokenizing dominates the rebuild, so each batch is analyzed in parallel and applied in one pass
+    private long indexBatch(List<ProductResponseDTO> batch) {
+        Map<Long, Map<String, Integer>> analyzed = batch.parallelStream()
+            .collect(Collectors.toConcurrentMap(ProductResponseDTO::id, ProductSearchServiceImpl::termFrequencies));
+        synchronized (indexWrites) {
+            // A write event seen during the rebuild is newer than the row read by the cursor
+            Map<Long, String> names = new HashMap<>();
+            for (ProductResponseDTO product : batch) {
+                if (!changedDuringRebuild.contains(product.id())) {
+                    index.upsert(product.id(), analyzed.get(product.id()));
+                    names.put(product.id(), product.name());
+                }
+            }
+            suggestions.upsertAll(names);
+        }
+        return analyzed.size();
+    }
+
+    static Map<String, Integer> termFrequencies(ProductResponseDTO product) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String term : TextAnalyzer.tokenize(product.name())) {
+            frequencies.merge(term, NAME_WEIGHT, Integer::sum);
+        }
+        for (String term : TextAnalyzer.tokenize(product.description())) {
+            frequencies.merge(term, 1, Integer::sum);
+        }
+        return frequencies;
+    }
+}
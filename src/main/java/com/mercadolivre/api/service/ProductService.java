@@ -1,15 +1,29 @@
 package com.mercadolivre.api.service;
 
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
 
 public interface ProductService {
     Page<ProductResponseDTO> getAllProducts(Pageable pageable);
+    Page<ProductResponseDTO> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
+    ProductSliceResponseDTO getProductsAfter(String cursor, int size, String sortBy, Sort.Direction direction);
     ProductResponseDTO getProductById(Long id);
+    ProductMultiGetResponseDTO getProductsByIds(List<Long> ids);
     ProductResponseDTO createProduct(ProductRequestDTO productRequestDTO);
     ProductResponseDTO updateProduct(Long id, ProductRequestDTO productRequestDTO);
+    ProductResponseDTO updateProduct(Long id, ProductRequestDTO productRequestDTO, Long expectedVersion);
+    ProductResponseDTO modifyProduct(Long id, UnaryOperator<ProductRequestDTO> modification);
+    ProductResponseDTO patchProduct(Long id, ProductPatchDTO patch, Long expectedVersion);
     void deleteProduct(Long id);
 }
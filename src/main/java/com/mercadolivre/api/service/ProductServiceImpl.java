@@ -1,62 +1,297 @@
 package com.mercadolivre.api.service;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.mercadolivre.api.cache.SingleFlight;
+import com.mercadolivre.api.cache.TwoTierCache;
+import com.mercadolivre.api.dto.ProductLookupResultDTO;
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.exception.PreconditionFailedException;
 import com.mercadolivre.api.exception.ResourceNotFoundException;
+import com.mercadolivre.api.logging.LogMarkers;
 import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.pagination.ProductCursor;
 import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceIndex;
 
 @Service
 public class ProductServiceImpl implements ProductService {
 
     private static final Logger log = LoggerFactory.getLogger(ProductServiceImpl.class);
+    private static final String PRODUCTS_CACHE = "products";
+    // Domain of the price column (precision 10, scale 2), used for open-ended ranges
+    private static final BigDecimal LOWEST_PRICE = BigDecimal.ZERO;
+    private static final BigDecimal HIGHEST_PRICE = new BigDecimal("99999999.99");
 
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlight<Long, ProductResponseDTO> productLoads;
+    private final MissingProductCache missingProducts;
+    private final CacheManager cacheManager;
+    private final ProductPriceIndex priceIndex;
+    private final OptimisticRetry optimisticRetry;
+    private final TransactionTemplate readOnlyTransaction;
 
-    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper) {
+    public ProductServiceImpl(ProductRepository productRepository, ProductMapper productMapper,
+            ApplicationEventPublisher eventPublisher, SingleFlight<Long, ProductResponseDTO> productLoads,
+            MissingProductCache missingProducts, CacheManager cacheManager, ProductPriceIndex priceIndex,
+            OptimisticRetry optimisticRetry, PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
         this.productMapper = productMapper;
+        this.eventPublisher = eventPublisher;
+        this.productLoads = productLoads;
+        this.missingProducts = missingProducts;
+        this.cacheManager = cacheManager;
+        this.priceIndex = priceIndex;
+        this.optimisticRetry = optimisticRetry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(
+        value = "productPages",
+        key = "@productCacheGeneration.current() + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort",
+        condition = "#pageable != null && #pageable.paged"
+    )
     public Page<ProductResponseDTO> getAllProducts(Pageable pageable) {
         Objects.requireNonNull(pageable, "Pageable cannot be null");
         log.debug("Fetching products with pagination: page={}, size={}", pageable.getPageNumber(), pageable.getPageSize());
         Page<ProductResponseDTO> result = productRepository.findAll(pageable)
                 .map(productMapper::toDto);
-        log.info("Retrieved {} products", result.getTotalElements());
+        log.info(LogMarkers.SAMPLED, "Retrieved {} products", result.getTotalElements());
         return result;
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(
+        value = "productPages",
+        key = "@productCacheGeneration.current() + ':price:' + #minPrice + ':' + #maxPrice + ':' + #pageable.pageNumber + ':' + #pageable.pageSize + ':' + #pageable.sort",
+        condition = "#pageable != null && #pageable.paged"
+    )
+    public Page<ProductResponseDTO> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
+        Objects.requireNonNull(pageable, "Pageable cannot be null");
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice must be less than or equal to maxPrice");
+        }
+        log.debug("Fetching products by price: min={}, max={}, page={}, size={}",
+            minPrice, maxPrice, pageable.getPageNumber(), pageable.getPageSize());
+
+        Sort.Order priceOrder = pageable.getSort().getOrderFor("price");
+        boolean sortedByPrice = priceOrder != null && pageable.getSort().stream().count() == 1;
+        if (pageable.isPaged() && (sortedByPrice || pageable.getSort().isUnsorted())) {
+            boolean descending = priceOrder != null && priceOrder.isDescending();
+            var indexed = priceIndex.range(minPrice, maxPrice, descending, (int) pageable.getOffset(), pageable.getPageSize());
+            Page<ProductResponseDTO> page = indexed.map(result -> hydrate(result, pageable)).orElse(null);
+            if (page != null) {
+                return page;
+            }
+        }
+
+        // Ties on price are broken by id so the order matches the in-memory index and the keyset pages
+        Pageable ordered = pageable;
+        if (pageable.isPaged() && pageable.getSort().getOrderFor("id") == null) {
+            Sort.Direction direction = priceOrder != null ? priceOrder.getDirection() : Sort.Direction.ASC;
+            ordered = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().and(Sort.by(direction, "id")));
+        }
+        Page<ProductResponseDTO> result = productRepository.findByPriceRange(
+                minPrice != null ? minPrice : LOWEST_PRICE, maxPrice != null ? maxPrice : HIGHEST_PRICE, ordered)
+            .map(productMapper::toDto);
+        log.info(LogMarkers.SAMPLED, "Retrieved {} products in price range", result.getTotalElements());
+        return new PageImpl<>(result.getContent(), pageable, result.getTotalElements());
+    }
+
+    // Null when the index listed ids that no longer exist: they are dropped from the index and the
+    // caller answers from the database, so the page is neither short nor carries a stale total
+    private Page<ProductResponseDTO> hydrate(PriceIndex.Result indexed, Pageable pageable) {
+        if (indexed.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, indexed.total());
+        }
+        Map<Long, ProductResponseDTO> found = loadProducts(new LinkedHashSet<>(indexed.ids()));
+        List<Long> stale = indexed.ids().stream().filter(id -> !found.containsKey(id)).toList();
+        if (!stale.isEmpty()) {
+            log.warn("Price index listed {} products that no longer exist; falling back to the database", stale.size());
+            priceIndex.discard(stale);
+            return null;
+        }
+        List<ProductResponseDTO> content = indexed.ids().stream().map(found::get).toList();
+        log.debug("Price index served {} of {} matching products", content.size(), indexed.total());
+        return new PageImpl<>(content, pageable, indexed.total());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductSliceResponseDTO getProductsAfter(String cursor, int size, String sortBy, Sort.Direction direction) {
+        ProductCursor after = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor);
+
+        // A cursor carries the ordering it was issued for, so it wins over the request parameters
+        String field = after != null ? after.sortBy() : Objects.requireNonNull(sortBy, "SortBy cannot be null");
+        Sort.Direction sortDirection = after != null ? after.direction() : Objects.requireNonNull(direction, "Direction cannot be null");
+
+        if (!Product.SORTABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException(
+                "Invalid sort field: " + field + ". Allowed fields: " + Product.SORTABLE_FIELDS
+            );
+        }
+
+        Sort sort = "id".equals(field)
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, field).and(Sort.by(sortDirection, "id"));
+        Pageable pageable = PageRequest.of(0, size, sort);
+        log.debug("Fetching products after cursor: sortBy={}, direction={}, size={}", field, sortDirection, size);
+
+        Slice<Product> slice = after == null ? productRepository.findSliceBy(pageable) : seek(after, pageable);
+        List<Product> products = slice.getContent();
+        List<ProductResponseDTO> content = products.stream()
+                .map(productMapper::toDto)
+                .toList();
+
+        String nextCursor = slice.hasNext() && !products.isEmpty()
+                ? ProductCursor.of(field, sortDirection, products.get(products.size() - 1)).encode()
+                : null;
+        log.info(LogMarkers.SAMPLED, "Retrieved {} products (hasNext={})", content.size(), slice.hasNext());
+        return new ProductSliceResponseDTO(content, size, slice.hasNext(), nextCursor);
+    }
+
+    private Map<Long, ProductResponseDTO> cachedProducts(Cache products, Set<Long> ids) {
+        Map<Long, ProductResponseDTO> found = new HashMap<>();
+        if (products instanceof TwoTierCache twoTier) {
+            twoTier.getAll(ids).forEach((key, value) -> found.put((Long) key, (ProductResponseDTO) value));
+        } else if (products != null) {
+            for (Long id : ids) {
+                ProductResponseDTO cached = products.get(id, ProductResponseDTO.class);
+                if (cached != null) {
+                    found.put(id, cached);
+                }
+            }
+        }
+        return found;
+    }
+
+    // Cached products first, then one findAllById for the rest; not bound by the multi-get API limit
+    private Map<Long, ProductResponseDTO> loadProducts(Set<Long> ids) {
+        Cache products = cacheManager.getCache(PRODUCTS_CACHE);
+        Map<Long, ProductResponseDTO> found = cachedProducts(products, ids);
+
+        List<Long> toLoad = ids.stream()
+                .filter(id -> !found.containsKey(id) && !missingProducts.isKnownMissing(id))
+                .toList();
+        if (!toLoad.isEmpty()) {
+            long creationStamp = missingProducts.creationStamp();
+            for (Product product : productRepository.findAllById(toLoad)) {
+                ProductResponseDTO dto = productMapper.toDto(product);
+                found.put(dto.id(), dto);
+                if (products != null) {
+                    products.put(dto.id(), dto);
+                }
+            }
+            toLoad.stream()
+                    .filter(id -> !found.containsKey(id))
+                    .forEach(id -> missingProducts.markMissing(id, creationStamp));
+        }
+        log.debug("Resolved {} of {} ids ({} from the database)", found.size(), ids.size(), toLoad.size());
+        return found;
+    }
+
+    private Slice<Product> seek(ProductCursor cursor, Pageable pageable) {
+        boolean ascending = cursor.direction().isAscending();
+        return switch (cursor.sortBy()) {
+            case "name" -> ascending
+                    ? productRepository.seekByNameAsc(cursor.value(), cursor.id(), pageable)
+                    : productRepository.seekByNameDesc(cursor.value(), cursor.id(), pageable);
+            case "price" -> {
+                BigDecimal price = new BigDecimal(cursor.value());
+                yield ascending
+                        ? productRepository.seekByPriceAsc(price, cursor.id(), pageable)
+                        : productRepository.seekByPriceDesc(price, cursor.id(), pageable);
+            }
+            default -> ascending
+                    ? productRepository.seekByIdAsc(cursor.id(), pageable)
+                    : productRepository.seekByIdDesc(cursor.id(), pageable);
+        };
+    }
+
+    @Override
     @Cacheable(value = "products", key = "#id")
     public ProductResponseDTO getProductById(Long id) {
         Objects.requireNonNull(id, "Product ID cannot be null");
         log.debug("Fetching product with ID: {}", id);
-        return productRepository.findById(id)
+        // Concurrent misses for the same id share a single database round trip. Only the loader
+        // opens a transaction, so callers waiting on it do not hold a pooled connection.
+        return productLoads.execute(id, () -> {
+            if (missingProducts.isKnownMissing(id)) {
+                log.debug("Product known to be missing: id={}", id);
+                throw new ResourceNotFoundException("Product not found with id: " + id);
+            }
+            long creationStamp = missingProducts.creationStamp();
+            return readOnlyTransaction.execute(status -> productRepository.findById(id)
                 .map(product -> {
-                    log.info("Product found: id={}", id);
+                    log.info(LogMarkers.SAMPLED, "Product found: id={}", id);
                     return productMapper.toDto(product);
                 })
                 .orElseThrow(() -> {
+                    missingProducts.markMissing(id, creationStamp);
                     log.warn("Product not found with id: {}", id);
                     return new ResourceNotFoundException("Product not found with id: " + id);
-                });
+                }));
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductMultiGetResponseDTO getProductsByIds(List<Long> ids) {
+        Objects.requireNonNull(ids, "Product IDs cannot be null");
+        if (ids.isEmpty() || ids.size() > ProductMultiGetResponseDTO.MAX_IDS) {
+            throw new IllegalArgumentException("Between 1 and " + ProductMultiGetResponseDTO.MAX_IDS + " product IDs are required");
+        }
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, ProductResponseDTO> found = loadProducts(distinctIds);
+
+        List<ProductLookupResultDTO> results = ids.stream()
+                .map(id -> found.containsKey(id) ? ProductLookupResultDTO.found(found.get(id)) : ProductLookupResultDTO.missing(id))
+                .toList();
+        int foundCount = (int) results.stream().filter(ProductLookupResultDTO::found).count();
+        return new ProductMultiGetResponseDTO(ids.size(), foundCount, results);
     }
 
     @Override
@@ -66,29 +301,125 @@ public class ProductServiceImpl implements ProductService {
         log.debug("Creating new product: name={}", productRequestDTO.name());
         var product = productMapper.toEntity(productRequestDTO);
         Objects.requireNonNull(product, "Product entity cannot be null");
-        var savedProduct = productRepository.save(product);
+        // Flushed so the returned DTO carries the generated version and timestamp
+        var savedProduct = productRepository.saveAndFlush(product);
         log.info("Product created successfully: id={}", savedProduct.getId());
-        return productMapper.toDto(savedProduct);
+        var createdProduct = productMapper.toDto(savedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.created(createdProduct));
+        return createdProduct;
     }
 
     @Override
-    @Transactional
     @CachePut(value = "products", key = "#id")
     public ProductResponseDTO updateProduct(Long id, ProductRequestDTO productRequestDTO) {
-        Objects.requireNonNull(id, "Product ID cannot be null");
+        return updateProduct(id, productRequestDTO, null);
+    }
+
+    // With an expected version any concurrent change is a failed precondition; without one the
+    // replacement is retried on a fresh read when it collides with another writer
+    @Override
+    @CachePut(value = "products", key = "#id")
+    public ProductResponseDTO updateProduct(Long id, ProductRequestDTO productRequestDTO, Long expectedVersion) {
         Objects.requireNonNull(productRequestDTO, "Product request cannot be null");
+        return applyUpdate(id, current -> productRequestDTO, expectedVersion);
+    }
+
+    // For internal callers: the modification is re-applied to the latest state on every attempt,
+    // so a change committed by a concurrent writer is never overwritten
+    @Override
+    @CachePut(value = "products", key = "#id")
+    public ProductResponseDTO modifyProduct(Long id, UnaryOperator<ProductRequestDTO> modification) {
+        Objects.requireNonNull(modification, "Modification cannot be null");
+        return applyUpdate(id, modification, null);
+    }
+
+    private ProductResponseDTO applyUpdate(Long id, UnaryOperator<ProductRequestDTO> modification, Long expectedVersion) {
+        Objects.requireNonNull(id, "Product ID cannot be null");
+        try {
+            return optimisticRetry.execute(expectedVersion == null, () -> updateOnce(id, modification, expectedVersion));
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion == null) {
+                throw e;
+            }
+            log.info("Product modified concurrently: id={}, expectedVersion={}", id, expectedVersion);
+            throw new PreconditionFailedException("Product " + id + " was modified concurrently");
+        }
+    }
+
+    private ProductResponseDTO updateOnce(Long id, UnaryOperator<ProductRequestDTO> modification, Long expectedVersion) {
         log.debug("Updating product: id={}", id);
         var product = productRepository.findById(id)
                 .orElseThrow(() -> {
                     log.warn("Product not found for update: id={}", id);
                     return new ResourceNotFoundException("Product not found with id: " + id);
                 });
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            log.info("Product version mismatch: id={}, expected={}, current={}", id, expectedVersion, product.getVersion());
+            throw new PreconditionFailedException(
+                "Product " + id + " is at version " + product.getVersion() + ", not " + expectedVersion);
+        }
 
+        var productRequestDTO = modification.apply(
+            new ProductRequestDTO(product.getName(), product.getDescription(), product.getPrice()));
         productMapper.updateEntityFromDto(productRequestDTO, product);
-        Objects.requireNonNull(product, "Product entity cannot be null");
-        var updatedProduct = productRepository.save(product);
+        // Flushed so the version check runs here and the cached DTO carries the new version and timestamp
+        var updatedProduct = productRepository.saveAndFlush(product);
         log.info("Product updated successfully: id={}", id);
-        return productMapper.toDto(updatedProduct);
+        var updatedDto = productMapper.toDto(updatedProduct);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(updatedDto));
+        return updatedDto;
+    }
+
+    // One UPDATE of just the patched columns, without loading the entity. When the cached product
+    // holds the current version the update is guarded by it and the new state is derived from the
+    // cached one; otherwise the row is read back once so the cache and the indexes get full data.
+    @Override
+    @Transactional
+    @CachePut(value = "products", key = "#id")
+    public ProductResponseDTO patchProduct(Long id, ProductPatchDTO patch, Long expectedVersion) {
+        Objects.requireNonNull(id, "Product ID cannot be null");
+        Objects.requireNonNull(patch, "Product patch cannot be null");
+        if (!patch.hasChanges()) {
+            var current = readBack(id);
+            if (expectedVersion != null && !expectedVersion.equals(current.version())) {
+                throw new PreconditionFailedException(
+                    "Product " + id + " is at version " + current.version() + ", not " + expectedVersion);
+            }
+            return current;
+        }
+
+        Cache products = cacheManager.getCache(PRODUCTS_CACHE);
+        ProductResponseDTO cached = products != null ? products.get(id, ProductResponseDTO.class) : null;
+        Long cachedVersion = cached != null ? cached.version() : null;
+        Long guard = expectedVersion != null ? expectedVersion : cachedVersion;
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        log.debug("Patching product: id={}, guardVersion={}", id, guard);
+
+        ProductResponseDTO patched;
+        if (guard != null && productRepository.patch(id, patch, guard, updatedAt) == 1) {
+            patched = guard.equals(cachedVersion) ? productMapper.applyPatch(cached, patch, updatedAt) : readBack(id);
+        } else if (expectedVersion != null) {
+            if (!productRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Product not found with id: " + id);
+            }
+            log.info("Product version mismatch on patch: id={}, expected={}", id, expectedVersion);
+            throw new PreconditionFailedException("Product " + id + " is no longer at version " + expectedVersion);
+        } else if (productRepository.patch(id, patch, null, updatedAt) == 1) {
+            // The cached copy was stale or absent
+            patched = readBack(id);
+        } else {
+            log.warn("Product not found for patch: id={}", id);
+            throw new ResourceNotFoundException("Product not found with id: " + id);
+        }
+
+        log.info("Product patched successfully: id={}, version={}", id, patched.version());
+        eventPublisher.publishEvent(ProductChangedEvent.updated(patched));
+        return patched;
+    }
+
+    private ProductResponseDTO readBack(Long id) {
+        return productRepository.findDtoById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found with id: " + id));
     }
 
     @Override
@@ -102,6 +433,7 @@ public class ProductServiceImpl implements ProductService {
         productRepository.deleteById(id);
 
         if (existed) {
+            eventPublisher.publishEvent(ProductChangedEvent.deleted(id));
             log.info("Product deleted successfully: id={}", id);
         } else {
             log.info("Product not found for deletion (idempotent operation): id={}", id);
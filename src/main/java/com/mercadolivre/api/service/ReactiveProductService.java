@@ -0,0 +1,13 @@
+package com.mercadolivre.api.service;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductService {
+    Mono<Page<ProductResponseDTO>> getAllProducts(Pageable pageable);
+    Mono<ProductResponseDTO> getProductById(Long id);
+}
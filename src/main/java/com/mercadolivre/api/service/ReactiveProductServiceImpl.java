@@ -0,0 +1,59 @@
+package com.mercadolivre.api.service;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.exception.ServiceOverloadedException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+// Non-blocking facade over ProductService: cache hits complete on the calling thread and
+// misses run the regular (cached, coalesced) blocking lookup on the bounded read scheduler
+@Service
+public class ReactiveProductServiceImpl implements ReactiveProductService {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final ProductService productService;
+    private final Cache products;
+    private final Scheduler productReadScheduler;
+
+    public ReactiveProductServiceImpl(ProductService productService, CacheManager cacheManager, Scheduler productReadScheduler) {
+        this.productService = productService;
+        this.products = cacheManager.getCache("products");
+        this.productReadScheduler = productReadScheduler;
+    }
+
+    @Override
+    public Mono<Page<ProductResponseDTO>> getAllProducts(Pageable pageable) {
+        Objects.requireNonNull(pageable, "Pageable cannot be null");
+        return onReadScheduler(() -> productService.getAllProducts(pageable));
+    }
+
+    @Override
+    public Mono<ProductResponseDTO> getProductById(Long id) {
+        Objects.requireNonNull(id, "Product ID cannot be null");
+        ProductResponseDTO cached = products != null ? products.get(id, ProductResponseDTO.class) : null;
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        return onReadScheduler(() -> productService.getProductById(id));
+    }
+
+    private <T> Mono<T> onReadScheduler(Callable<T> read) {
+        return Mono.fromCallable(read)
+            .subscribeOn(productReadScheduler)
+            .onErrorMap(RejectedExecutionException.class,
+                ex -> new ServiceOverloadedException("Read queue is full, please retry later", RETRY_AFTER));
+    }
+}
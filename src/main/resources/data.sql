@@ -1,6 +1,8 @@
-INSERT INTO products (name, description, price) VALUES
-('Notebook Dell Inspiron 15', 'Notebook Dell Inspiron 15 3000, Intel Core i5, 8GB RAM, SSD 256GB, Tela 15.6", Windows 11', 3500.00),
-('Mouse Logitech MX Master 3', 'Mouse sem fio Logitech MX Master 3, Sensor Darkfield, 7 botões programáveis, Bateria recarregável', 450.00),
-('Teclado Mecânico Keychron K2', 'Teclado mecânico sem fio Keychron K2, Switch Gateron Brown, RGB, Layout ABNT2, Conexão Bluetooth', 650.00),
-('Monitor LG UltraWide 29"', 'Monitor LG 29" UltraWide Full HD IPS, 75Hz, HDR10, FreeSync, HDMI, DisplayPort', 1200.00),
-('Webcam Logitech C920', 'Webcam Logitech C920 Full HD 1080p, Microfone estéreo, Foco automático, Correção de luz', 380.00);
+INSERT INTO products (id, name, description, price) VALUES
+(1, 'Notebook Dell Inspiron 15', 'Notebook Dell Inspiron 15 3000, Intel Core i5, 8GB RAM, SSD 256GB, Tela 15.6", Windows 11', 3500.00),
+(2, 'Mouse Logitech MX Master 3', 'Mouse sem fio Logitech MX Master 3, Sensor Darkfield, 7 botões programáveis, Bateria recarregável', 450.00),
+(3, 'Teclado Mecânico Keychron K2', 'Teclado mecânico sem fio Keychron K2, Switch Gateron Brown, RGB, Layout ABNT2, Conexão Bluetooth', 650.00),
+(4, 'Monitor LG UltraWide 29"', 'Monitor LG 29" UltraWide Full HD IPS, 75Hz, HDR10, FreeSync, HDMI, DisplayPort', 1200.00),
+(5, 'Webcam Logitech C920', 'Webcam Logitech C920 Full HD 1080p, Microfone estéreo, Foco automático, Correção de luz', 380.00);
+
+ALTER SEQUENCE products_seq RESTART WITH 6;
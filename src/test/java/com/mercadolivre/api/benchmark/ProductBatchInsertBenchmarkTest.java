@@ -0,0 +1,67 @@
+package com.mercadolivre.api.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.mercadolivre.api.dto.ProductBatchItemDTO;
+import com.mercadolivre.api.dto.ProductBatchOperation;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.service.ProductBulkService;
+import com.mercadolivre.api.service.ProductService;
+
+/**
+ * Compares 10k single-product inserts with one batch of 10k. Run with:
+ * mvn test -Dtest=ProductBatchInsertBenchmarkTest -Dbenchmark=true
+ */
+@DisplayName("Product batch insert - Benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProductBatchInsertBenchmarkTest {
+
+    private static final int PRODUCTS = 10_000;
+    private static final int ROUNDS = 3;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductBulkService productBulkService;
+
+    @Test
+    @DisplayName("Should insert 10k products faster in one batch than one at a time")
+    void compareSingleInsertsWithBatch() {
+        for (int round = 1; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < PRODUCTS; i++) {
+                productService.createProduct(request(i));
+            }
+            long singleMillis = (System.nanoTime() - start) / 1_000_000;
+
+            List<ProductBatchItemDTO> items = new ArrayList<>(PRODUCTS);
+            for (int i = 0; i < PRODUCTS; i++) {
+                items.add(new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, request(i)));
+            }
+            start = System.nanoTime();
+            ProductBatchResponseDTO response = productBulkService.applyBatch(items);
+            long batchMillis = (System.nanoTime() - start) / 1_000_000;
+
+            assertEquals(PRODUCTS, response.succeeded());
+            System.out.printf("round %d: %d single inserts = %d ms, one batch of %d = %d ms%n",
+                round, PRODUCTS, singleMillis, PRODUCTS, batchMillis);
+        }
+    }
+
+    private static ProductRequestDTO request(int i) {
+        return new ProductRequestDTO("Benchmark product " + i, "Generated by benchmark", new BigDecimal("10.00"));
+    }
+}
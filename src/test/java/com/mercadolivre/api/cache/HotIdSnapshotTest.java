@@ -0,0 +1,54 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("HotIdSnapshot - Unit Tests")
+class HotIdSnapshotTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("Should read back the ids in the order they were written")
+    void write_ShouldRoundTripInOrder() throws Exception {
+        HotIdSnapshot snapshot = new HotIdSnapshot(tempDir.resolve("cache/hot-ids"));
+
+        snapshot.write(List.of(42L, 7L, 1000L));
+
+        assertEquals(List.of(42L, 7L, 1000L), snapshot.read());
+    }
+
+    @Test
+    @DisplayName("Should replace the previous snapshot without leaving temporary files")
+    void write_ShouldReplacePreviousSnapshot() throws Exception {
+        HotIdSnapshot snapshot = new HotIdSnapshot(tempDir.resolve("hot-ids"));
+        snapshot.write(List.of(1L, 2L));
+
+        snapshot.write(List.of(3L));
+
+        assertEquals(List.of(3L), snapshot.read());
+        try (var files = Files.list(tempDir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should treat a missing file as empty and skip lines that are not ids")
+    void read_ShouldTolerateMissingFileAndBadLines() throws Exception {
+        Path file = tempDir.resolve("hot-ids");
+        assertTrue(new HotIdSnapshot(file).read().isEmpty());
+
+        Files.write(file, List.of("5", "", "not-an-id", " 6 "));
+
+        assertEquals(List.of(5L, 6L), new HotIdSnapshot(file).read());
+    }
+}
@@ -0,0 +1,46 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InMemoryRemoteCacheStore - Unit Tests")
+class InMemoryRemoteCacheStoreTest {
+
+    @Test
+    @DisplayName("Should store, evict and clear values per cache")
+    void putEvictClear_ShouldBeScopedPerCache() {
+        InMemoryRemoteCacheStore store = new InMemoryRemoteCacheStore();
+
+        store.put("products", 1L, "one", Duration.ofMinutes(1));
+        store.put("products", 2L, "two", Duration.ofMinutes(1));
+        store.put("other", 1L, "other", Duration.ofMinutes(1));
+        store.evict("products", 1L);
+
+        assertNull(store.get("products", 1L));
+        assertEquals("two", store.get("products", 2L));
+
+        store.clear("products");
+
+        assertNull(store.get("products", 2L));
+        assertEquals("other", store.get("other", 1L));
+    }
+
+    @Test
+    @DisplayName("Should not return expired values")
+    void get_ShouldIgnoreExpiredValues() {
+        Instant now = Instant.parse("2025-11-30T12:00:00Z");
+        InMemoryRemoteCacheStore store = new InMemoryRemoteCacheStore(Clock.fixed(now, ZoneOffset.UTC));
+
+        store.put("products", 1L, "one", Duration.ZERO);
+
+        assertNull(store.get("products", 1L));
+    }
+}
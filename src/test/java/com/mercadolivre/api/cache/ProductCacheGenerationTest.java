@@ -0,0 +1,43 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.mercadolivre.api.event.ProductChangedEvent;
+
+@DisplayName("ProductCacheGeneration - Unit Tests")
+class ProductCacheGenerationTest {
+
+    @Test
+    @DisplayName("Should advance generation on every product change")
+    void onProductChanged_ShouldAdvanceGeneration() {
+        ProductCacheGeneration generation = new ProductCacheGeneration(
+            new StaticListableBeanFactory().getBeanProvider(CacheInvalidationBus.class));
+
+        assertEquals(0, generation.current());
+
+        generation.onProductChanged(ProductChangedEvent.deleted(1L));
+        generation.onProductChanged(ProductChangedEvent.deleted(2L));
+
+        assertEquals(2, generation.current());
+    }
+
+    @Test
+    @DisplayName("Should tell other nodes to drop their cached pages when a bus is available")
+    void onProductChanged_WithBus_ShouldBroadcastClear() {
+        CacheInvalidationBus bus = mock(CacheInvalidationBus.class);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("cacheInvalidationBus", bus);
+        ProductCacheGeneration generation = new ProductCacheGeneration(beanFactory.getBeanProvider(CacheInvalidationBus.class));
+
+        generation.onProductChanged(ProductChangedEvent.deleted(1L));
+
+        verify(bus, times(1)).publish(ProductCacheGeneration.PRODUCT_PAGES_CACHE, null);
+    }
+}
@@ -0,0 +1,124 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@DisplayName("RefreshAheadCaffeineCache - Unit Tests")
+class RefreshAheadCaffeineCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final Queue<Runnable> pendingRefreshes = new ArrayDeque<>();
+    private RefreshAheadCaffeineCache cache;
+
+    @BeforeEach
+    void setUp() {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .ticker(nanos::get)
+            .executor(pendingRefreshes::add)
+            .refreshAfterWrite(Duration.ofMinutes(1));
+        cache = RefreshAheadCaffeineCache.create("products", builder, new CacheRefreshLoader() {
+            @Override
+            public String cacheName() {
+                return "products";
+            }
+
+            @Override
+            public Object load(Object key) {
+                return (Long) key == 404L ? null : "reloaded-" + loads.incrementAndGet();
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Should leave misses to the caller instead of loading them")
+    void get_Miss_ShouldNotLoad() {
+        assertNull(cache.get(1L));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should serve a fresh value without refreshing it")
+    void get_FreshEntry_ShouldNotRefresh() {
+        cache.put(1L, "original");
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        assertEquals("original", cache.get(1L, String.class));
+        assertEquals(0, cache.refreshCount());
+        assertEquals(0, cache.staleServedCount());
+    }
+
+    @Test
+    @DisplayName("Should serve the stale value once and refresh it in the background")
+    void get_StaleEntry_ShouldServeStaleAndRefresh() {
+        cache.put(1L, "original");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        assertEquals("original", cache.get(1L, String.class));
+        runPendingRefreshes();
+        assertEquals("reloaded-1", cache.get(1L, String.class));
+        assertEquals(1, cache.refreshCount());
+        assertEquals(1, cache.staleServedCount());
+    }
+
+    @Test
+    @DisplayName("Should drop an entry whose refresh finds nothing")
+    void get_StaleEntryGone_ShouldEvict() {
+        cache.put(404L, "deleted");
+        nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+
+        cache.get(404L);
+        runPendingRefreshes();
+
+        assertNull(cache.get(404L));
+    }
+
+    @Test
+    @DisplayName("Factory should build refreshing caches only for specs with refreshAfterWrite")
+    void factory_ShouldApplyPerCacheSpecs() {
+        CaffeineCacheFactory factory = new CaffeineCacheFactory("maximumSize=100",
+            Map.of("products", "maximumSize=100,refreshAfterWrite=1m", "orphan", "refreshAfterWrite=1m"),
+            Map.of("products", loaderFor("products")));
+
+        assertInstanceOf(RefreshAheadCaffeineCache.class, factory.create("products"));
+        assertEquals(CaffeineCache.class, factory.create("productPages").getClass());
+        assertThrows(IllegalStateException.class, () -> factory.create("orphan"));
+    }
+
+    private void runPendingRefreshes() {
+        Runnable task;
+        while ((task = pendingRefreshes.poll()) != null) {
+            task.run();
+        }
+    }
+
+    private CacheRefreshLoader loaderFor(String name) {
+        return new CacheRefreshLoader() {
+            @Override
+            public String cacheName() {
+                return name;
+            }
+
+            @Override
+            public Object load(Object key) {
+                return key;
+            }
+        };
+    }
+}
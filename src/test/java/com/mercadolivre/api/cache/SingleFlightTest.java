@@ -0,0 +1,124 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.mercadolivre.api.exception.ResourceNotFoundException;
+
+@DisplayName("SingleFlight - Unit Tests")
+class SingleFlightTest {
+
+    private static final int CALLERS = 32;
+
+    @Test
+    @DisplayName("Should run one load for concurrent callers of the same key and count the others as coalesced")
+    void execute_WithConcurrentCallers_ShouldLoadOnce() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return "product-1";
+            })));
+            await(loaderStarted);
+
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loads.incrementAndGet();
+                    return "unexpected";
+                })));
+            }
+            while (singleFlight.coalescedCount() < CALLERS - 1) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("product-1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, singleFlight.loadCount());
+        assertEquals(CALLERS - 1, singleFlight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Should load again once the previous flight finished")
+    void execute_Sequential_ShouldNotCoalesce() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        singleFlight.execute(1L, () -> "first");
+        String second = singleFlight.execute(1L, () -> "second");
+
+        assertEquals("second", second);
+        assertEquals(2, singleFlight.loadCount());
+        assertEquals(0, singleFlight.coalescedCount());
+    }
+
+    @Test
+    @DisplayName("Should add the time of every load, including failed ones")
+    void execute_ShouldRecordLoadTime() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        singleFlight.execute(1L, () -> {
+            sleep(20);
+            return "product-1";
+        });
+        assertThrows(ResourceNotFoundException.class, () -> singleFlight.execute(2L, () -> {
+            sleep(20);
+            throw new ResourceNotFoundException("Product", 2L);
+        }));
+
+        assertTrue(singleFlight.totalLoadNanos() >= TimeUnit.MILLISECONDS.toNanos(40),
+            "load time: " + singleFlight.totalLoadNanos());
+    }
+
+    @Test
+    @DisplayName("Should propagate loader exceptions")
+    void execute_WhenLoaderFails_ShouldRethrow() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+
+        assertThrows(ResourceNotFoundException.class, () -> singleFlight.execute(1L, () -> {
+            throw new ResourceNotFoundException("Product", 1L);
+        }));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.mercadolivre.api.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+@DisplayName("TwoTierCacheManager - Unit Tests")
+class TwoTierCacheManagerTest {
+
+    private InMemoryRemoteCacheStore sharedStore;
+    private TwoTierCacheManager nodeA;
+    private TwoTierCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        sharedStore = new InMemoryRemoteCacheStore();
+        InMemoryCacheInvalidationBus busA = new InMemoryCacheInvalidationBus("node-a");
+        InMemoryCacheInvalidationBus busB = busA.connect("node-b");
+
+        nodeA = node(busA);
+        nodeB = node(busB);
+    }
+
+    @Test
+    @DisplayName("Should serve a value loaded on one node from the shared tier on another")
+    void get_ShouldReadThroughSharedTier() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("product-1", nodeA.getCache("products").get(1L, () -> "product-" + loads.incrementAndGet()));
+        assertEquals("product-1", nodeB.getCache("products").get(1L, () -> "product-" + loads.incrementAndGet()));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should drop stale local copies on other nodes after a put")
+    void put_ShouldInvalidateOtherNodes() {
+        nodeA.getCache("products").put(1L, "old");
+        assertEquals("old", nodeB.getCache("products").get(1L, String.class));
+
+        nodeA.getCache("products").put(1L, "new");
+
+        assertEquals("new", nodeB.getCache("products").get(1L, String.class));
+    }
+
+    @Test
+    @DisplayName("Should resolve several keys from the local and shared tiers at once")
+    void getAll_ShouldCombineTiers() {
+        TwoTierCache productsA = (TwoTierCache) nodeA.getCache("products");
+        TwoTierCache productsB = (TwoTierCache) nodeB.getCache("products");
+        productsA.put(1L, "one");
+        productsB.put(2L, "two");
+
+        Map<Object, Object> found = productsA.getAll(List.of(1L, 2L, 3L));
+
+        assertEquals(Map.of(1L, "one", 2L, "two"), found);
+    }
+
+    @Test
+    @DisplayName("Should remove the value from every tier and node on evict")
+    void evict_ShouldRemoveEverywhere() {
+        nodeA.getCache("products").put(1L, "value");
+        nodeB.getCache("products").get(1L);
+
+        nodeB.getCache("products").evict(1L);
+
+        assertNull(nodeA.getCache("products").get(1L));
+        assertNull(sharedStore.get("products", 1L));
+    }
+
+    @Test
+    @DisplayName("Should keep local-only caches out of the shared tier but still clear them remotely")
+    void localOnlyCache_ShouldHonourRemoteClear() {
+        Cache pagesA = nodeA.getCache("productPages");
+        Cache pagesB = nodeB.getCache("productPages");
+        pagesA.put("0:10", "page-a");
+
+        assertFalse(((TwoTierCache) pagesA).isRemoteEnabled());
+        assertNull(sharedStore.get("productPages", "0:10"));
+        assertEquals("page-a", pagesA.get("0:10", String.class));
+
+        pagesB.clear();
+
+        assertNull(pagesA.get("0:10"));
+        assertTrue(((TwoTierCache) nodeA.getCache("products")).isRemoteEnabled());
+    }
+
+    private TwoTierCacheManager node(CacheInvalidationBus bus) {
+        return new TwoTierCacheManager(new CaffeineCacheFactory("maximumSize=100", Map.of(), Map.of()), List.of("products", "productPages"),
+            Set.of("products"), sharedStore, bus, Duration.ofMinutes(10));
+    }
+}
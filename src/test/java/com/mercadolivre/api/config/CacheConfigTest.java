@@ -0,0 +1,61 @@
+package com.mercadolivre.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+import com.mercadolivre.api.cache.RefreshAheadCaffeineCache;
+import com.mercadolivre.api.cache.TwoTierCache;
+import com.mercadolivre.api.cache.TwoTierCacheManager;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("CacheConfig - Integration Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class CacheConfigTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should build node-local caches with refresh-ahead for products and keep cache metrics")
+    void cacheManager_ShouldApplyPerCacheSpecs() {
+        TwoTierCache products = (TwoTierCache) cacheManager.getCache("products");
+        TwoTierCache pages = (TwoTierCache) cacheManager.getCache("productPages");
+
+        assertInstanceOf(TwoTierCacheManager.class, cacheManager);
+        assertFalse(products.isRemoteEnabled());
+        assertInstanceOf(RefreshAheadCaffeineCache.class, products.getLocalCache());
+        assertFalse(pages.getLocalCache() instanceof RefreshAheadCaffeineCache);
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", "productPages").functionCounter());
+        assertNotNull(meterRegistry.find("cache.refreshes").tag("cache", "products").functionCounter());
+        assertNotNull(meterRegistry.find("cache.stale.served").tag("cache", "products").functionCounter());
+    }
+
+    @Nested
+    @TestPropertySource(properties = "products.cache.l2.enabled=true")
+    class WithSharedTier {
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Test
+        @DisplayName("Should back the products cache with the shared tier when L2 is enabled")
+        void cacheManager_ShouldEnableRemoteTier() {
+            assertTrue(((TwoTierCache) cacheManager.getCache("products")).isRemoteEnabled());
+            assertFalse(((TwoTierCache) cacheManager.getCache("productPages")).isRemoteEnabled());
+        }
+    }
+}
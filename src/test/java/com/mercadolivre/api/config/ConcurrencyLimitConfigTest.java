@@ -0,0 +1,100 @@
+package com.mercadolivre.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.handler.MappedInterceptor;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("ConcurrencyLimitConfig - Integration Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = "spring.datasource.hikari.maximum-pool-size=4")
+class ConcurrencyLimitConfigTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should not limit requests on platform threads by default")
+    void limit_OnPlatformThreads_ShouldBeDisabledByDefault() {
+        assertNull(meterRegistry.find("http.server.requests.permits.available").gauge());
+    }
+
+    @Nested
+    @DisplayName("With virtual threads")
+    @TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+    class VirtualThreads {
+
+        @Autowired
+        private MeterRegistry virtualThreadsMeterRegistry;
+
+        @Test
+        @DisplayName("Should limit requests by default")
+        void limit_OnVirtualThreads_ShouldBeEnabledByDefault() {
+            assertEquals(4, virtualThreadsMeterRegistry.get("http.server.requests.permits.available").gauge().value());
+        }
+    }
+
+    @Nested
+    @DisplayName("With the limit enabled")
+    @TestPropertySource(properties = "products.concurrency.enabled=true")
+    class Enabled {
+
+        @Autowired
+        private MeterRegistry enabledMeterRegistry;
+
+        @Autowired
+        private ConcurrencyLimitConfig concurrencyLimitConfig;
+
+        @Test
+        @DisplayName("Should admit as many concurrent requests as the connection pool has connections by default")
+        void maxRequests_ByDefault_ShouldMatchPoolSize() {
+            assertEquals(4, enabledMeterRegistry.get("http.server.requests.permits.available").gauge().value());
+        }
+
+        @Test
+        @DisplayName("Should limit API requests but not the streamed import and export")
+        void interceptor_ShouldSkipBulkTransfers() {
+            MappedInterceptor interceptor = registeredInterceptor();
+
+            assertTrue(interceptor.matches(request("GET", "/api/v1/products/1")));
+            assertTrue(interceptor.matches(request("POST", "/api/v1/products/batch")));
+            assertFalse(interceptor.matches(request("GET", "/api/v1/products/export")));
+            assertFalse(interceptor.matches(request("POST", "/api/v1/products/import")));
+        }
+
+        private MappedInterceptor registeredInterceptor() {
+            List<Object> interceptors = new InterceptorRegistry() {
+                {
+                    concurrencyLimitConfig.addInterceptors(this);
+                }
+
+                List<Object> registered() {
+                    return getInterceptors();
+                }
+            }.registered();
+            assertEquals(1, interceptors.size());
+            return (MappedInterceptor) interceptors.get(0);
+        }
+
+        private MockHttpServletRequest request(String method, String uri) {
+            MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+            ServletRequestPathUtils.parseAndCache(request);
+            return request;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.mercadolivre.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.mercadolivre.api.metrics.QueryStats;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.service.ProductService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("MetricsConfig - Integration Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class MetricsConfigTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Should time product service calls, including cache hits")
+    void productService_ShouldBeTimed() {
+        productService.getProductById(1L);
+        productService.getProductById(1L);
+
+        var timer = meterRegistry.find(MetricsConfig.PRODUCT_SERVICE_METRIC)
+            .tag("method", "getProductById").tag("exception", "none").timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 2);
+    }
+
+    @Test
+    @DisplayName("Should count JDBC statements through the Hibernate session listener")
+    void sessionListener_ShouldFeedQueryStats() {
+        QueryStats.begin();
+        productRepository.findById(2L);
+        QueryStats.Snapshot stats = QueryStats.end();
+
+        assertTrue(stats.statements() >= 1);
+        assertTrue(stats.elapsedNanos() > 0);
+    }
+}
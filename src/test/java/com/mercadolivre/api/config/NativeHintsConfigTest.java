@@ -0,0 +1,73 @@
+package com.mercadolivre.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.util.ReflectionUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.logging.SamplingTurboFilter;
+import com.mercadolivre.api.metrics.JdbcTimingSessionListener;
+import com.mercadolivre.api.service.ProductService;
+
+@DisplayName("NativeHintsConfig - Unit Tests")
+class NativeHintsConfigTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeHintsConfig.ApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Should register classes instantiated by name")
+    void registerHints_ShouldCoverReflectiveInstantiation() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onConstructor(JdbcTimingSessionListener.class.getConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onType(ProductResponseDTO.class).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onMethod(SamplingTurboFilter.class.getMethod("setSampleOneIn", int.class)).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the JDK proxy of the timed product service")
+    void registerHints_ShouldCoverProductServiceProxy() {
+        assertTrue(RuntimeHintsPredicates.proxies()
+            .forInterfaces(AopProxyUtils.completeJdkProxyInterfaces(ProductService.class)).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should register the generated Caffeine class of the products cache spec")
+    void registerHints_ShouldCoverCaffeineGeneratedClasses() {
+        LoadingCache<Object, Object> cache = Caffeine.from("maximumSize=500,expireAfterWrite=10m,refreshAfterWrite=2m,recordStats")
+            .build(key -> key);
+        // The public cache wraps the generated implementation chosen for the spec
+        Field delegate = ReflectionUtils.findField(cache.getClass(), "cache");
+        ReflectionUtils.makeAccessible(delegate);
+        String cacheClass = ReflectionUtils.getField(delegate, cache).getClass().getName();
+
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of(cacheClass)).withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS).test(hints));
+    }
+
+    @Test
+    @DisplayName("Should include the Swagger UI assets")
+    void registerHints_ShouldCoverSwaggerUiResources() {
+        assertTrue(RuntimeHintsPredicates.resource()
+            .forResource("META-INF/resources/webjars/swagger-ui/5.10.3/index.html").test(hints));
+    }
+}
@@ -0,0 +1,156 @@
+package com.mercadolivre.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.api.dto.ProductBatchItemDTO;
+import com.mercadolivre.api.dto.ProductBatchItemStatus;
+import com.mercadolivre.api.dto.ProductBatchOperation;
+import com.mercadolivre.api.dto.ProductBatchRequestDTO;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductBatchResultDTO;
+import com.mercadolivre.api.dto.ProductImportErrorDTO;
+import com.mercadolivre.api.dto.ProductImportResultDTO;
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.importer.ProductImportFormat;
+import com.mercadolivre.api.service.ProductBulkService;
+
+@SuppressWarnings("null")
+@WebMvcTest(ProductBulkController.class)
+@DisplayName("ProductBulkController - Unit Tests")
+class ProductBulkControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private ProductBulkService productBulkService;
+
+    @Test
+    @DisplayName("Should return per-item results for a batch")
+    void applyBatch_ShouldReturnResults() throws Exception {
+        ProductRequestDTO requestDTO = new ProductRequestDTO("Notebook", "Dell Inspiron", new BigDecimal("3500.00"));
+        ProductBatchResponseDTO response = new ProductBatchResponseDTO(2, 1, 1, List.of(
+            new ProductBatchResultDTO(0, ProductBatchOperation.CREATE, 6L, ProductBatchItemStatus.CREATED,
+                new ProductResponseDTO(6L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00")), null),
+            new ProductBatchResultDTO(1, ProductBatchOperation.DELETE, 99L, ProductBatchItemStatus.NOT_FOUND,
+                null, "Product not found with id: 99")
+        ));
+        when(productBulkService.applyBatch(anyList())).thenReturn(response);
+
+        ProductBatchRequestDTO request = new ProductBatchRequestDTO(List.of(
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, requestDTO),
+            new ProductBatchItemDTO(ProductBatchOperation.DELETE, 99L, null)
+        ));
+
+        mockMvc.perform(post("/api/v1/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].product.id").value(6))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"))
+                .andExpect(jsonPath("$.results[1].product").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when batch is empty")
+    void applyBatch_WithEmptyItems_ShouldReturn400() throws Exception {
+        mockMvc.perform(post("/api/v1/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("items"));
+
+        verify(productBulkService, never()).applyBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should stream the catalog as NDJSON")
+    void exportProducts_ShouldStreamNdjson() throws Exception {
+        String ndjson = "{\"id\":1,\"name\":\"Mouse\",\"description\":null,\"price\":450.00}\n";
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        }).when(productBulkService).exportProducts(any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/products/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"products.ndjson\""))
+                .andExpect(content().string(ndjson));
+    }
+
+    @Test
+    @DisplayName("Should import CSV body and return counts with line errors")
+    void importCsv_ShouldReturnImportResult() throws Exception {
+        ProductImportResultDTO result = new ProductImportResultDTO(2, 1, 1,
+            List.of(new ProductImportErrorDTO(3, "name: Name must be between 3 and 100 characters")), false);
+        when(productBulkService.importProducts(any(InputStream.class), eq(ProductImportFormat.CSV))).thenReturn(result);
+
+        mockMvc.perform(post("/api/v1/products/import")
+                .contentType("text/csv")
+                .content("name,price\nMouse,450.00\nAB,10.00\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(3));
+    }
+
+    @Test
+    @DisplayName("Should route NDJSON body to the NDJSON import")
+    void importNdjson_ShouldUseNdjsonFormat() throws Exception {
+        when(productBulkService.importProducts(any(InputStream.class), eq(ProductImportFormat.NDJSON)))
+            .thenReturn(new ProductImportResultDTO(1, 1, 0, List.of(), false));
+
+        mockMvc.perform(post("/api/v1/products/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("{\"name\":\"Mouse\",\"price\":450.00}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(1));
+
+        verify(productBulkService).importProducts(any(InputStream.class), eq(ProductImportFormat.NDJSON));
+    }
+}
@@ -2,19 +2,26 @@ package com.mercadolivre.api.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,12 +33,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.api.dto.ProductLookupResultDTO;
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
+import com.mercadolivre.api.exception.PreconditionFailedException;
 import com.mercadolivre.api.exception.ResourceNotFoundException;
 import com.mercadolivre.api.service.ProductService;
 
@@ -109,6 +123,106 @@ class ProductControllerTest {
         verify(productService, times(1)).getAllProducts(any(Pageable.class));
     }
 
+    @Test
+    @DisplayName("Should filter the product list by price range")
+    void getAllProducts_WithPriceRange_ShouldFilterByPrice() throws Exception {
+        Page<ProductResponseDTO> page = new PageImpl<>(
+            Collections.singletonList(responseDTO),
+            PageRequest.of(0, 10),
+            1
+        );
+        when(productService.getProductsByPriceRange(eq(new BigDecimal("1000.00")), eq(new BigDecimal("5000")), any(Pageable.class)))
+            .thenReturn(page);
+
+        mockMvc.perform(get("/api/v1/products")
+                .param("minPrice", "1000.00")
+                .param("maxPrice", "5000")
+                .param("sortBy", "price")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].price").value(3500.00))
+                .andExpect(jsonPath("$.totalElements").value(1));
+
+        verify(productService, never()).getAllProducts(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when minPrice is greater than maxPrice")
+    void getAllProducts_WithInvertedPriceRange_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/products")
+                .param("minPrice", "500")
+                .param("maxPrice", "100"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).getProductsByPriceRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a negative price bound")
+    void getAllProducts_WithNegativeMinPrice_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/v1/products")
+                .param("minPrice", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should send ETag and Last-Modified derived from the product version")
+    void getProductById_ShouldSendValidators() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(versioned(responseDTO, 4L));
+
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Wed, 01 May 2024 10:15:30 GMT"))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without a body when If-None-Match matches")
+    void getProductById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(versioned(responseDTO, 4L));
+
+        mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_NONE_MATCH, "\"1-3\""))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 when the product has not changed since If-Modified-Since")
+    void getProductById_NotModifiedSince_ShouldReturnNotModified() throws Exception {
+        when(productService.getProductById(1L)).thenReturn(versioned(responseDTO, 4L));
+
+        mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 May 2024 10:15:30 GMT"))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(get("/api/v1/products/1").header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 01 May 2024 10:15:29 GMT"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should give pages an ETag that changes with product versions")
+    void getAllProducts_ShouldSendPageETag() throws Exception {
+        when(productService.getAllProducts(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(versioned(responseDTO, 1L)), PageRequest.of(0, 10), 1));
+
+        String etag = mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        when(productService.getAllProducts(any(Pageable.class)))
+            .thenReturn(new PageImpl<>(List.of(versioned(responseDTO, 2L)), PageRequest.of(0, 10), 1));
+
+        mockMvc.perform(get("/api/v1/products").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("Should return product by ID successfully")
     void getProductById_WithValidId_ShouldReturnProduct() throws Exception {
@@ -125,6 +239,31 @@ class ProductControllerTest {
         verify(productService, times(1)).getProductById(1L);
     }
 
+    @Test
+    @DisplayName("Should return several products in request order with missing markers")
+    void getProductsByIds_ShouldReturnResultsInOrder() throws Exception {
+        when(productService.getProductsByIds(List.of(1L, 99L))).thenReturn(new ProductMultiGetResponseDTO(2, 1, List.of(
+            ProductLookupResultDTO.found(responseDTO),
+            ProductLookupResultDTO.missing(99L))));
+
+        mockMvc.perform(get("/api/v1/products").param("ids", "1,99"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(2))
+                .andExpect(jsonPath("$.found").value(1))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[0].product.name").value("Notebook Dell"))
+                .andExpect(jsonPath("$.results[1].id").value(99))
+                .andExpect(jsonPath("$.results[1].found").value(false))
+                .andExpect(jsonPath("$.results[1].product").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid ids in a multi-get")
+    void getProductsByIds_InvalidId_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/products").param("ids", "1,-2"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should return 404 when product not found by ID")
     void getProductById_WithInvalidId_ShouldReturn404() throws Exception {
@@ -229,7 +368,7 @@ class ProductControllerTest {
             new BigDecimal("3800.00")
         );
 
-        when(productService.updateProduct(eq(1L), any(ProductRequestDTO.class)))
+        when(productService.updateProduct(eq(1L), any(ProductRequestDTO.class), isNull()))
             .thenReturn(updatedResponseDTO);
 
         ProductRequestDTO updateDTO = new ProductRequestDTO(
@@ -246,13 +385,13 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.name").value("Notebook Dell Updated"))
                 .andExpect(jsonPath("$.price").value(3800.00));
 
-        verify(productService, times(1)).updateProduct(eq(1L), any(ProductRequestDTO.class));
+        verify(productService, times(1)).updateProduct(eq(1L), any(ProductRequestDTO.class), isNull());
     }
 
     @Test
     @DisplayName("Should return 404 when updating non-existent product")
     void updateProduct_WithInvalidId_ShouldReturn404() throws Exception {
-        when(productService.updateProduct(eq(999L), any(ProductRequestDTO.class)))
+        when(productService.updateProduct(eq(999L), any(ProductRequestDTO.class), isNull()))
             .thenThrow(new ResourceNotFoundException("Product not found with id: 999"));
 
         mockMvc.perform(put("/api/v1/products/999")
@@ -260,7 +399,93 @@ class ProductControllerTest {
                 .content(objectMapper.writeValueAsString(validRequestDTO)))
                 .andExpect(status().isNotFound());
 
-        verify(productService, times(1)).updateProduct(eq(999L), any(ProductRequestDTO.class));
+        verify(productService, times(1)).updateProduct(eq(999L), any(ProductRequestDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the service")
+    void updateProduct_WithIfMatch_ShouldUpdateThatVersion() throws Exception {
+        ProductResponseDTO updated = new ProductResponseDTO(1L, "Notebook", "Dell", new BigDecimal("3800.00"), 4L, null);
+        when(productService.updateProduct(eq(1L), any(ProductRequestDTO.class), eq(3L))).thenReturn(updated);
+
+        mockMvc.perform(put("/api/v1/products/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequestDTO)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-4\""));
+    }
+
+    @Test
+    @DisplayName("Should return 412 when the product moved past the If-Match version")
+    void updateProduct_WithStaleIfMatch_ShouldReturn412() throws Exception {
+        when(productService.updateProduct(eq(1L), any(ProductRequestDTO.class), eq(3L)))
+            .thenThrow(new PreconditionFailedException("Product 1 is at version 4, not 3"));
+
+        mockMvc.perform(put("/api/v1/products/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequestDTO)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @DisplayName("Should return 412 without updating when If-Match names another product or a weak tag")
+    void updateProduct_WithForeignIfMatch_ShouldReturn412() throws Exception {
+        mockMvc.perform(put("/api/v1/products/1")
+                .header(HttpHeaders.IF_MATCH, "\"2-3\", W/\"1-3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequestDTO)))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(productService, never()).updateProduct(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should treat If-Match * as an unconditional update")
+    void updateProduct_WithWildcardIfMatch_ShouldNotPinVersion() throws Exception {
+        when(productService.updateProduct(eq(1L), any(ProductRequestDTO.class), isNull())).thenReturn(responseDTO);
+
+        mockMvc.perform(put("/api/v1/products/1")
+                .header(HttpHeaders.IF_MATCH, "*")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(validRequestDTO)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should apply a merge patch with only the fields sent")
+    void patchProduct_WithMergePatch_ShouldPassOnlyPresentFields() throws Exception {
+        ProductPatchDTO patch = new ProductPatchDTO(null, null, new BigDecimal("3400.00"), true);
+        ProductResponseDTO patched = new ProductResponseDTO(1L, "Notebook", null, new BigDecimal("3400.00"), 5L, null);
+        when(productService.patchProduct(1L, patch, 4L)).thenReturn(patched);
+
+        mockMvc.perform(patch("/api/v1/products/1")
+                .header(HttpHeaders.IF_MATCH, "\"1-4\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"price\": 3400.00, \"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-5\""))
+                .andExpect(jsonPath("$.price").value(3400.00));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a patch that removes a required field or names an unknown one")
+    void patchProduct_WithInvalidPatch_ShouldReturn400() throws Exception {
+        mockMvc.perform(patch("/api/v1/products/1")
+                .contentType("application/merge-patch+json")
+                .content("{\"price\": null}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\": 7}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(patch("/api/v1/products/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"price\": "))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).patchProduct(any(), any(), any());
     }
 
     @Test
@@ -342,4 +567,43 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.content").isEmpty())
                 .andExpect(jsonPath("$.totalElements").value(0));
     }
+
+    @Test
+    @DisplayName("Should return slice of products with next cursor")
+    void getProductsAfter_ShouldReturnSliceWithCursor() throws Exception {
+        ProductSliceResponseDTO slice = new ProductSliceResponseDTO(List.of(responseDTO), 1, true, "next-cursor");
+        when(productService.getProductsAfter("abc", 1, "price", Sort.Direction.DESC)).thenReturn(slice);
+
+        mockMvc.perform(get("/api/v1/products/scroll")
+                .param("after", "abc")
+                .param("size", "1")
+                .param("sortBy", "price")
+                .param("direction", "DESC")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+
+        verify(productService, times(1)).getProductsAfter("abc", 1, "price", Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when cursor is invalid")
+    void getProductsAfter_WithInvalidCursor_ShouldReturn400() throws Exception {
+        when(productService.getProductsAfter(eq("bad"), eq(10), eq("id"), eq(Sort.Direction.ASC)))
+            .thenThrow(new IllegalArgumentException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/v1/products/scroll")
+                .param("after", "bad")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor: bad"));
+    }
+
+    private static ProductResponseDTO versioned(ProductResponseDTO product, long version) {
+        return new ProductResponseDTO(product.id(), product.name(), product.description(), product.price(),
+            version, Instant.parse("2024-05-01T10:15:30Z"));
+    }
 }
@@ -0,0 +1,59 @@
+package com.mercadolivre.api.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.mercadolivre.api.dto.PriceBucketDTO;
+import com.mercadolivre.api.dto.ProductFacetsDTO;
+import com.mercadolivre.api.service.ProductFacetService;
+
+@SuppressWarnings("null")
+@WebMvcTest(ProductFacetController.class)
+@DisplayName("ProductFacetController - Unit Tests")
+class ProductFacetControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductFacetService productFacetService;
+
+    private final ProductFacetsDTO facets = new ProductFacetsDTO(3, List.of(
+        new PriceBucketDTO(new BigDecimal("0.00"), new BigDecimal("100.00"), 1),
+        new PriceBucketDTO(new BigDecimal("100.00"), null, 2)));
+
+    @Test
+    @DisplayName("Should return the total and the price histogram")
+    void getFacets_ShouldReturnHistogram() throws Exception {
+        when(productFacetService.getFacets()).thenReturn(facets);
+
+        mockMvc.perform(get("/api/v1/products/facets"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalProducts").value(3))
+            .andExpect(jsonPath("$.priceHistogram[0].maxPrice").value(100.00))
+            .andExpect(jsonPath("$.priceHistogram[1].count").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return the recounted facets on rebuild")
+    void rebuild_ShouldReturnRecountedFacets() throws Exception {
+        when(productFacetService.rebuild()).thenReturn(facets);
+
+        mockMvc.perform(post("/api/v1/products/facets/rebuild"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalProducts").value(3));
+    }
+}
@@ -0,0 +1,100 @@
+package com.mercadolivre.api.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.exception.ResourceNotFoundException;
+import com.mercadolivre.api.service.ReactiveProductService;
+
+import reactor.core.publisher.Mono;
+
+@SuppressWarnings("null")
+@WebMvcTest(ProductReactiveController.class)
+@DisplayName("ProductReactiveController - Unit Tests")
+class ProductReactiveControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReactiveProductService reactiveProductService;
+
+    private final ProductResponseDTO product = new ProductResponseDTO(1L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00"));
+
+    @Test
+    @DisplayName("Should return the product asynchronously")
+    void getProductById_ShouldReturnProduct() throws Exception {
+        when(reactiveProductService.getProductById(1L)).thenReturn(Mono.just(product));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/products/1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // The long export timeout must not leak into the default used here
+        assertEquals(Duration.ofSeconds(10).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(1))
+            .andExpect(jsonPath("$.name").value("Notebook"));
+    }
+
+    @Test
+    @DisplayName("Should map an error signal to 404")
+    void getProductById_NotFound_ShouldReturn404() throws Exception {
+        when(reactiveProductService.getProductById(99L))
+            .thenReturn(Mono.error(new ResourceNotFoundException("Product not found with id: 99")));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/products/99"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Product not found with id: 99"));
+    }
+
+    @Test
+    @DisplayName("Should return a page asynchronously")
+    void getAllProducts_ShouldReturnPage() throws Exception {
+        when(reactiveProductService.getAllProducts(any(Pageable.class)))
+            .thenReturn(Mono.just(new PageImpl<>(List.of(product), PageRequest.of(0, 10), 1)));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/reactive/products").param("sortBy", "name"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(1))
+            .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("Should reject an unknown sort field")
+    void getAllProducts_InvalidSort_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/reactive/products").param("sortBy", "stock"))
+            .andExpect(status().isBadRequest());
+    }
+}
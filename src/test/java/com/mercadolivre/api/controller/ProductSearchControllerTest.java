@@ -0,0 +1,95 @@
+package com.mercadolivre.api.controller;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSearchHitDTO;
+import com.mercadolivre.api.dto.ProductSearchResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestionDTO;
+import com.mercadolivre.api.service.ProductSearchService;
+
+@SuppressWarnings("null")
+@WebMvcTest(ProductSearchController.class)
+@DisplayName("ProductSearchController - Unit Tests")
+class ProductSearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProductSearchService productSearchService;
+
+    @Test
+    @DisplayName("Should return ranked hits")
+    void search_ShouldReturnHits() throws Exception {
+        ProductResponseDTO keyboard = new ProductResponseDTO(3L, "Teclado Mecânico", null, new BigDecimal("650.00"));
+        when(productSearchService.search("teclado", 0, 20)).thenReturn(
+            new ProductSearchResponseDTO("teclado", 1, 0, 20, List.of(new ProductSearchHitDTO(1.5, keyboard))));
+
+        mockMvc.perform(get("/api/v1/products/search").param("q", "teclado"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalHits").value(1))
+            .andExpect(jsonPath("$.hits[0].score").value(1.5))
+            .andExpect(jsonPath("$.hits[0].product.id").value(3));
+    }
+
+    @Test
+    @DisplayName("Should pass a page whose offset exceeds int range to the service")
+    void search_LargePage_ShouldReturnEmptyPage() throws Exception {
+        when(productSearchService.search("teclado", Integer.MAX_VALUE, 100)).thenReturn(
+            new ProductSearchResponseDTO("teclado", 1, Integer.MAX_VALUE, 100, List.of()));
+
+        mockMvc.perform(get("/api/v1/products/search").param("q", "teclado")
+                .param("page", String.valueOf(Integer.MAX_VALUE)).param("size", "100"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalHits").value(1))
+            .andExpect(jsonPath("$.hits").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject a negative page")
+    void search_NegativePage_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search").param("q", "teclado").param("page", "-1"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query")
+    void search_BlankQuery_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/products/search").param("q", " "))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return name suggestions for a prefix")
+    void suggest_ShouldReturnSuggestions() throws Exception {
+        when(productSearchService.suggest("tec", 10)).thenReturn(
+            new ProductSuggestResponseDTO("tec", List.of(new ProductSuggestionDTO(3L, "Teclado Mecânico"))));
+
+        mockMvc.perform(get("/api/v1/products/suggest").param("prefix", "tec"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.suggestions[0].id").value(3))
+            .andExpect(jsonPath("$.suggestions[0].name").value("Teclado Mecânico"));
+    }
+
+    @Test
+    @DisplayName("Should reject more suggestions than allowed")
+    void suggest_SizeTooLarge_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/v1/products/suggest").param("prefix", "tec").param("size", "11"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,66 @@
+package com.mercadolivre.api.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("ProductPatchDTO - Unit Tests")
+class ProductPatchDTOTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should only carry the members present in the patch")
+    void fromJson_WithPriceOnly_ShouldLeaveOtherFieldsUntouched() throws Exception {
+        ProductPatchDTO patch = ProductPatchDTO.fromJson(json("{\"price\": 12.5}"));
+
+        assertEquals(new BigDecimal("12.50"), patch.price());
+        assertNull(patch.name());
+        assertNull(patch.description());
+        assertFalse(patch.clearDescription());
+        assertTrue(patch.hasChanges());
+    }
+
+    @Test
+    @DisplayName("Should clear the description when it is set to null")
+    void fromJson_WithNullDescription_ShouldClearIt() throws Exception {
+        ProductPatchDTO patch = ProductPatchDTO.fromJson(json("{\"description\": null, \"name\": \"Mouse Pad\"}"));
+
+        assertTrue(patch.clearDescription());
+        assertNull(patch.description());
+        assertEquals("Mouse Pad", patch.name());
+    }
+
+    @Test
+    @DisplayName("Should treat an empty object as a patch without changes")
+    void fromJson_WithEmptyObject_ShouldHaveNoChanges() throws Exception {
+        assertFalse(ProductPatchDTO.fromJson(json("{}")).hasChanges());
+    }
+
+    @Test
+    @DisplayName("Should reject removing required fields, unknown fields and invalid values")
+    void fromJson_WithInvalidMembers_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"name\": null}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"price\": null}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"id\": 2}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"name\": \"ab\"}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"price\": 0}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"price\": 1.005}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("{\"price\": \"10\"}")));
+        assertThrows(IllegalArgumentException.class, () -> ProductPatchDTO.fromJson(json("[]")));
+    }
+
+    private JsonNode json(String content) throws Exception {
+        return objectMapper.readTree(content);
+    }
+}
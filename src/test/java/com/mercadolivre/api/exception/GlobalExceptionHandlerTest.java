@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
@@ -12,6 +13,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.MethodParameter;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -54,6 +57,42 @@ class GlobalExceptionHandlerTest {
         assertEquals("/api/products/1", body.getPath());
     }
 
+    @Test
+    @DisplayName("Should handle ServiceOverloadedException with Retry-After")
+    void handleServiceOverloadedException_ShouldReturnServiceUnavailable() {
+        ServiceOverloadedException exception = new ServiceOverloadedException("Too many concurrent requests", Duration.ofMillis(500));
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleServiceOverloadedException(exception, webRequest);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(503, Objects.requireNonNull(response.getBody()).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should handle PreconditionFailedException as 412")
+    void handlePreconditionFailedException_ShouldReturnPreconditionFailed() {
+        PreconditionFailedException exception = new PreconditionFailedException("Product 1 is at version 3, not 2");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handlePreconditionFailedException(exception, webRequest);
+        ErrorResponse body = Objects.requireNonNull(response.getBody());
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("Precondition Failed", body.getError());
+        assertEquals("Product 1 is at version 3, not 2", body.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should handle an exhausted optimistic lock retry as 409")
+    void handleOptimisticLockingFailureException_ShouldReturnConflict() {
+        OptimisticLockingFailureException exception = new OptimisticLockingFailureException("Row was updated");
+
+        ResponseEntity<ErrorResponse> response = exceptionHandler.handleOptimisticLockingFailureException(exception, webRequest);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(409, Objects.requireNonNull(response.getBody()).getStatus());
+    }
+
     @Test
     @DisplayName("Should handle ResourceNotFoundException with custom message")
     void handleResourceNotFoundException_WithCustomMessage_ShouldReturnNotFound() {
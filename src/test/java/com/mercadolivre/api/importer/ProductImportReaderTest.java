@@ -0,0 +1,90 @@
+package com.mercadolivre.api.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("ProductImportReader - Unit Tests")
+class ProductImportReaderTest {
+
+    @Test
+    @DisplayName("Should read NDJSON records skipping blank lines and keep line numbers")
+    void ndjson_ShouldReadRecordsWithLineNumbers() throws IOException {
+        String body = "{\"name\":\"Mouse\",\"price\":450.00}\n\n{\"name\":\"Teclado Mecânico\",\"description\":\"ABNT2\",\"price\":650}\n";
+
+        try (ProductImportReader reader = ProductImportReader.ndjson(stream(body), new ObjectMapper())) {
+            ProductImportReader.Row first = reader.next();
+            ProductImportReader.Row second = reader.next();
+
+            assertEquals(1, first.line());
+            assertEquals("Mouse", first.product().name());
+            assertEquals(3, second.line());
+            assertEquals("Teclado Mecânico", second.product().name());
+            assertEquals(new BigDecimal("650"), second.product().price());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report malformed JSON as a row error")
+    void ndjson_WithMalformedLine_ShouldReturnError() throws IOException {
+        try (ProductImportReader reader = ProductImportReader.ndjson(stream("{\"name\":"), new ObjectMapper())) {
+            ProductImportReader.Row row = reader.next();
+
+            assertNull(row.product());
+            assertNotNull(row.error());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read CSV by header name with quoted fields")
+    void csv_ShouldReadQuotedFieldsByHeader() throws IOException {
+        String body = "price,name,description\n"
+            + "1200.00,\"Monitor LG 29\"\"\",\"IPS, 75Hz\"\n"
+            + "380.00,Webcam,\n";
+
+        try (ProductImportReader reader = ProductImportReader.csv(stream(body))) {
+            ProductImportReader.Row first = reader.next();
+            ProductImportReader.Row second = reader.next();
+
+            assertEquals(2, first.line());
+            assertEquals("Monitor LG 29\"", first.product().name());
+            assertEquals("IPS, 75Hz", first.product().description());
+            assertEquals(new BigDecimal("1200.00"), first.product().price());
+            assertNull(second.product().description());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Should report invalid CSV price as a row error")
+    void csv_WithInvalidPrice_ShouldReturnError() throws IOException {
+        try (ProductImportReader reader = ProductImportReader.csv(stream("name,price\nMouse,abc\n"))) {
+            ProductImportReader.Row row = reader.next();
+
+            assertEquals("price: Invalid number 'abc'", row.error());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void csv_WithoutRequiredColumns_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> ProductImportReader.csv(stream("name,description\n")));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package com.mercadolivre.api.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.mercadolivre.api.exception.ServiceOverloadedException;
+
+import jakarta.servlet.DispatcherType;
+
+@DisplayName("ConcurrencyLimitInterceptor - Unit Tests")
+class ConcurrencyLimitInterceptorTest {
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(2, Duration.ofMillis(10));
+
+    @Test
+    @DisplayName("Should reject requests beyond the limit and admit them again after completion")
+    void preHandle_OverLimit_ShouldThrowUntilReleased() throws Exception {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+
+        assertTrue(interceptor.preHandle(first, response, null));
+        assertTrue(interceptor.preHandle(second, response, null));
+        assertThrows(ServiceOverloadedException.class, () -> interceptor.preHandle(new MockHttpServletRequest(), response, null));
+
+        interceptor.afterCompletion(first, response, null, null);
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest(), response, null));
+    }
+
+    @Test
+    @DisplayName("Should release the permit once when async processing starts")
+    void afterConcurrentHandlingStarted_ShouldReleaseOnce() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        interceptor.preHandle(request, response, null);
+
+        interceptor.afterConcurrentHandlingStarted(request, response, null);
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(2, interceptor.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Should let the async completion dispatch through without a permit")
+    void preHandle_AsyncDispatch_ShouldNotAcquire() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setDispatcherType(DispatcherType.ASYNC);
+
+        assertTrue(interceptor.preHandle(request, response, null));
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals(2, interceptor.availablePermits());
+    }
+}
@@ -0,0 +1,79 @@
+package com.mercadolivre.api.interceptor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.mercadolivre.api.metrics.JdbcTimingSessionListener;
+import com.mercadolivre.api.metrics.QueryStats;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("QueryMetricsInterceptor - Unit Tests")
+class QueryMetricsInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private QueryMetricsInterceptor interceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        interceptor = new QueryMetricsInterceptor(registry);
+        request = new MockHttpServletRequest("GET", "/api/v1/products/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/products/{id}");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("Should record the statements the request executed under its route")
+    void afterCompletion_ShouldRecordStatementsPerRoute() {
+        JdbcTimingSessionListener session = new JdbcTimingSessionListener();
+
+        interceptor.preHandle(request, response, new Object());
+        session.jdbcExecuteStatementStart();
+        session.jdbcExecuteStatementEnd();
+        session.jdbcExecuteBatchStart();
+        session.jdbcExecuteBatchEnd();
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        var statements = registry.find(QueryMetricsInterceptor.STATEMENTS_METRIC).tag("uri", "/api/v1/products/{id}").summary();
+        var time = registry.find(QueryMetricsInterceptor.TIME_METRIC).tag("method", "GET").timer();
+        assertNotNull(statements);
+        assertNotNull(time);
+        assertEquals(2.0, statements.totalAmount());
+        assertEquals(1, time.count());
+        assertNull(QueryStats.end());
+    }
+
+    @Test
+    @DisplayName("Should record a request that ran no statements as zero")
+    void afterCompletion_WithoutStatements_ShouldRecordZero() {
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        var statements = registry.find(QueryMetricsInterceptor.STATEMENTS_METRIC).summary();
+        assertNotNull(statements);
+        assertEquals(1, statements.count());
+        assertEquals(0.0, statements.totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should ignore statements outside a request")
+    void jdbcExecute_WithoutRequest_ShouldNotRecord() {
+        JdbcTimingSessionListener session = new JdbcTimingSessionListener();
+
+        session.jdbcExecuteStatementStart();
+        session.jdbcExecuteStatementEnd();
+
+        assertNull(QueryStats.end());
+    }
+}
@@ -0,0 +1,88 @@
+package com.mercadolivre.api.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+@DisplayName("JsonLineLayout - Unit Tests")
+class JsonLineLayoutTest {
+
+    private final JsonLineLayout layout = new JsonLineLayout();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Should write one parseable JSON object per event, escaping the message")
+    void doLayout_ShouldProduceJsonLine() throws Exception {
+        var logger = new LoggerContext().getLogger("com.mercadolivre.api.Test");
+        var event = new LoggingEvent("fqcn", logger, Level.INFO, "Product \"{}\"\n\tfound", null, new Object[] {"a\\b"});
+        event.setThreadName("worker-1");
+
+        String line = layout.doLayout(event);
+        JsonNode json = objectMapper.readTree(line);
+
+        assertTrue(line.endsWith(System.lineSeparator()));
+        assertEquals(1, line.strip().lines().count());
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("worker-1", json.get("thread").asText());
+        assertEquals("com.mercadolivre.api.Test", json.get("logger").asText());
+        assertEquals("Product \"a\\b\"\n\tfound", json.get("msg").asText());
+        assertEquals(event.getTimeStamp(), json.get("ts").asLong());
+    }
+
+    @Test
+    @DisplayName("Should include the stack trace of a logged exception")
+    void doLayout_WithThrowable_ShouldAddError() throws Exception {
+        var logger = new LoggerContext().getLogger("test");
+        var event = new LoggingEvent("fqcn", logger, Level.ERROR, "Failed", new IllegalStateException("boom"), null);
+
+        JsonNode json = objectMapper.readTree(layout.doLayout(event));
+
+        assertTrue(json.get("error").asText().contains("IllegalStateException: boom"));
+    }
+
+    @Test
+    @DisplayName("Should keep each line intact when one layout formats events from several threads")
+    void doLayout_FromConcurrentThreads_ShouldNotMixEvents() throws Exception {
+        var logger = new LoggerContext().getLogger("test");
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Void>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String message = ("thread " + t + " ").repeat(50);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        var event = new LoggingEvent("fqcn", logger, Level.INFO, message, null, null);
+                        assertEquals(message, objectMapper.readTree(layout.doLayout(event)).get("msg").asText());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.mercadolivre.api.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MarkerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+
+@DisplayName("SamplingTurboFilter - Unit Tests")
+class SamplingTurboFilterTest {
+
+    private SamplingTurboFilter filter;
+    private Logger logger;
+
+    @BeforeEach
+    void setUp() {
+        filter = new SamplingTurboFilter();
+        filter.setSampleOneIn(10);
+        logger = new LoggerContext().getLogger("test");
+    }
+
+    @Test
+    @DisplayName("Should keep roughly one in N events marked SAMPLED")
+    void decide_WithSampledMarker_ShouldKeepAFraction() {
+        int kept = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.decide(LogMarkers.SAMPLED, logger, Level.INFO, "Retrieved {} products", null, null) == FilterReply.NEUTRAL) {
+                kept++;
+            }
+        }
+
+        assertTrue(kept > 700 && kept < 1300, "kept " + kept);
+    }
+
+    @Test
+    @DisplayName("Should never drop unmarked events, other markers or level checks")
+    void decide_WithoutSampledMarker_ShouldStayNeutral() {
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(null, logger, Level.INFO, "Product updated", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(MarkerFactory.getMarker("AUDIT"), logger, Level.INFO, "x", null, null));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.SAMPLED, logger, Level.INFO, null, null, null));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep every event when the sample rate is 1")
+    void decide_WithRateOne_ShouldKeepEverything() {
+        filter.setSampleOneIn(1);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(LogMarkers.SAMPLED, logger, Level.INFO, "x", null, null));
+        }
+    }
+}
@@ -5,11 +5,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
 import com.mercadolivre.api.model.Product;
@@ -69,6 +71,19 @@ class ProductMapperTest {
         assertEquals(product.getPrice(), result.price());
     }
 
+    @Test
+    @DisplayName("Should carry version and update time into the response DTO")
+    void toDto_ShouldCopyVersionAndUpdatedAt() {
+        Instant updatedAt = Instant.parse("2024-05-01T10:15:30Z");
+        product.setVersion(3L);
+        product.setUpdatedAt(updatedAt);
+
+        ProductResponseDTO result = productMapper.toDto(product);
+
+        assertEquals(3L, result.version());
+        assertEquals(updatedAt, result.updatedAt());
+    }
+
     @Test
     @DisplayName("Should return null when converting null Product to ProductResponseDTO")
     void toDto_ShouldReturnNullWhenEntityIsNull() {
@@ -109,4 +124,20 @@ class ProductMapperTest {
     void updateEntityFromDto_ShouldNotUpdateWhenEntityIsNull() {
         productMapper.updateEntityFromDto(requestDTO, null);
     }
+
+    @Test
+    @DisplayName("Should apply a patch to a product and move it to the next version")
+    void applyPatch_ShouldOverlayPresentFieldsAndBumpVersion() {
+        ProductResponseDTO current = new ProductResponseDTO(1L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00"), 2L, null);
+        Instant updatedAt = Instant.parse("2026-01-01T00:00:00Z");
+
+        ProductResponseDTO patched = productMapper.applyPatch(
+            current, new ProductPatchDTO(null, null, new BigDecimal("3400.00"), true), updatedAt);
+
+        assertEquals("Notebook", patched.name());
+        assertNull(patched.description());
+        assertEquals(new BigDecimal("3400.00"), patched.price());
+        assertEquals(3L, patched.version());
+        assertEquals(updatedAt, patched.updatedAt());
+    }
 }
@@ -0,0 +1,53 @@
+package com.mercadolivre.api.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("MethodTimingInterceptor - Unit Tests")
+class MethodTimingInterceptorTest {
+
+    private SimpleMeterRegistry registry;
+    private Function<String, Integer> timed;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        Function<String, Integer> target = value -> Integer.parseInt(value);
+        ProxyFactory proxy = new ProxyFactory(target);
+        proxy.addInterface(Function.class);
+        proxy.addAdvice(new MethodTimingInterceptor(() -> registry, "test.service"));
+        timed = (Function<String, Integer>) proxy.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time successful calls per method")
+    void invoke_WithSuccessfulCalls_ShouldRecordTimer() {
+        timed.apply("1");
+        timed.apply("2");
+
+        var timer = registry.find("test.service").tag("method", "apply").tag("exception", "none").timer();
+        assertNotNull(timer);
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    @DisplayName("Should time failed calls tagged with the exception and rethrow it")
+    void invoke_WithFailingCall_ShouldTagException() {
+        assertThrows(NumberFormatException.class, () -> timed.apply("x"));
+
+        var timer = registry.find("test.service").tag("exception", "NumberFormatException").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
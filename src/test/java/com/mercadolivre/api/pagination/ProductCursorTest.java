@@ -0,0 +1,56 @@
+package com.mercadolivre.api.pagination;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.mercadolivre.api.model.Product;
+
+@DisplayName("ProductCursor - Unit Tests")
+class ProductCursorTest {
+
+    @Test
+    @DisplayName("Should encode and decode cursor preserving all fields")
+    void encode_ShouldRoundTrip() {
+        ProductCursor cursor = new ProductCursor("name", Sort.Direction.DESC, 42L, "Monitor LG 29\": UltraWide");
+
+        ProductCursor decoded = ProductCursor.decode(cursor.encode());
+
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should build cursor from the sort key of the last product")
+    void of_ShouldUseSortKeyOfProduct() {
+        Product product = new Product();
+        product.setId(7L);
+        product.setName("Mouse");
+        product.setPrice(new BigDecimal("450.00"));
+
+        assertEquals("450.00", ProductCursor.of("price", Sort.Direction.ASC, product).value());
+        assertEquals("Mouse", ProductCursor.of("name", Sort.Direction.ASC, product).value());
+        assertEquals("7", ProductCursor.of("id", Sort.Direction.ASC, product).value());
+        assertEquals(7L, ProductCursor.of("price", Sort.Direction.ASC, product).id());
+    }
+
+    @Test
+    @DisplayName("Should reject cursor that is not valid Base64")
+    void decode_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode("not base64!"));
+    }
+
+    @Test
+    @DisplayName("Should reject cursor with unknown sort field")
+    void decode_ShouldRejectUnknownSortField() {
+        String encoded = Base64.getUrlEncoder().encodeToString("description:ASC:1:x".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> ProductCursor.decode(encoded));
+    }
+}
@@ -0,0 +1,64 @@
+package com.mercadolivre.api.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.mercadolivre.api.dto.ProductPatchDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.model.Product;
+
+@DisplayName("ProductRepository patch - Integration Tests")
+@DataJpaTest
+class ProductRepositoryPatchTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        product = new Product();
+        product.setName("Notebook");
+        product.setDescription("Dell Inspiron");
+        product.setPrice(new BigDecimal("3500.00"));
+        product = productRepository.saveAndFlush(product);
+    }
+
+    @Test
+    @DisplayName("Should update only the patched columns and bump the version")
+    void patch_ShouldChangeOnlyPatchedColumns() {
+        Instant updatedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        int updated = productRepository.patch(product.getId(),
+            new ProductPatchDTO(null, null, new BigDecimal("3400.00"), true), null, updatedAt);
+
+        ProductResponseDTO stored = productRepository.findDtoById(product.getId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals("Notebook", stored.name());
+        assertNull(stored.description());
+        assertEquals(new BigDecimal("3400.00"), stored.price());
+        assertEquals(product.getVersion() + 1, stored.version());
+        assertEquals(updatedAt, stored.updatedAt());
+    }
+
+    @Test
+    @DisplayName("Should leave the row alone when the expected version does not match")
+    void patch_WithOtherVersion_ShouldNotUpdate() {
+        ProductPatchDTO patch = new ProductPatchDTO("Notebook Pro", null, null, false);
+
+        assertEquals(0, productRepository.patch(product.getId(), patch, product.getVersion() + 1, Instant.now()));
+        assertEquals(1, productRepository.patch(product.getId(), patch, product.getVersion(), Instant.now()));
+        assertEquals(0, productRepository.patch(-1L, patch, null, Instant.now()));
+    }
+}
@@ -0,0 +1,66 @@
+package com.mercadolivre.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("InvertedIndex - Unit Tests")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.upsert(1, Map.of("teclado", 2, "mecanico", 2, "rgb", 1));
+        index.upsert(2, Map.of("mouse", 2, "sem", 1, "fio", 1));
+        index.upsert(3, Map.of("teclado", 1, "membrana", 1));
+    }
+
+    @Test
+    @DisplayName("Should rank documents matching more and rarer terms first")
+    void search_ShouldRankByBm25() {
+        InvertedIndex.Result result = index.search(List.of("teclado", "mecanico"), 0, 10);
+
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(1L, 3L), result.hits().stream().map(InvertedIndex.Hit::id).toList());
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should page through ranked hits")
+    void search_WithOffset_ShouldSkipTopHits() {
+        InvertedIndex.Result result = index.search(List.of("teclado"), 1, 10);
+
+        assertEquals(2, result.totalHits());
+        assertEquals(1, result.hits().size());
+    }
+
+    @Test
+    @DisplayName("Should return no hits for an offset past the last hit")
+    void search_OffsetPastHits_ShouldReturnEmptyPage() {
+        InvertedIndex.Result result = index.search(List.of("teclado"), (long) Integer.MAX_VALUE * 100, 100);
+
+        assertEquals(2, result.totalHits());
+        assertTrue(result.hits().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should replace a document's terms on upsert and forget them on remove")
+    void upsertAndRemove_ShouldUpdatePostings() {
+        index.upsert(3, Map.of("monitor", 1));
+        assertEquals(1, index.search(List.of("teclado"), 0, 10).totalHits());
+        assertEquals(1, index.search(List.of("monitor"), 0, 10).totalHits());
+
+        index.remove(3);
+
+        assertEquals(0, index.search(List.of("monitor"), 0, 10).totalHits());
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,72 @@
+package com.mercadolivre.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PriceHistogram - Unit Tests")
+class PriceHistogramTest {
+
+    private PriceHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new PriceHistogram(new long[] {10_000, 50_000});
+    }
+
+    @Test
+    @DisplayName("Should count prices equal to a bound in the next bucket")
+    void upsert_ShouldCountPerBucket() {
+        histogram.upsert(1, 9_999);
+        histogram.upsert(2, 10_000);
+        histogram.upsert(3, 80_000);
+
+        assertArrayEquals(new long[] {1, 1, 1}, histogram.counts());
+    }
+
+    @Test
+    @DisplayName("Should move a product between buckets on update and drop it on remove")
+    void upsertAndRemove_ShouldAdjustCounts() {
+        histogram.upsert(1, 500);
+        histogram.upsert(1, 60_000);
+        histogram.upsert(1, 70_000);
+        assertArrayEquals(new long[] {0, 0, 1}, histogram.counts());
+
+        histogram.remove(1);
+        histogram.remove(1);
+
+        assertArrayEquals(new long[] {0, 0, 0}, histogram.counts());
+    }
+
+    @Test
+    @DisplayName("Should keep exact counts under concurrent writers")
+    void upsert_Concurrently_ShouldKeepExactCounts() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++) {
+            long first = thread * 1_000L;
+            executor.execute(() -> {
+                for (long id = first; id < first + 1_000; id++) {
+                    histogram.upsert(id, 100);
+                    histogram.upsert(id, 20_000);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertArrayEquals(new long[] {0, 4_000, 0}, histogram.counts());
+    }
+
+    @Test
+    @DisplayName("Should reject bounds that are not strictly increasing")
+    void constructor_UnsortedBounds_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceHistogram(new long[] {500, 500}));
+    }
+}
@@ -0,0 +1,123 @@
+package com.mercadolivre.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("PriceIndex - Unit Tests")
+class PriceIndexTest {
+
+    private PriceIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PriceIndex();
+        index.load(new long[] {1, 2, 3, 4, 5}, new long[] {500, 100, 300, 100, 900});
+    }
+
+    @Test
+    @DisplayName("Should return ids in the range ordered by price and then id")
+    void range_Ascending_ShouldOrderByPriceThenId() {
+        PriceIndex.Result result = index.range(100, 500, false, 0, 10);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(2L, 4L, 3L, 1L), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should walk the range backwards when descending")
+    void range_Descending_ShouldReverseOrder() {
+        PriceIndex.Result result = index.range(100, 500, true, 1, 2);
+
+        assertEquals(4, result.total());
+        assertEquals(List.of(3L, 4L), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should merge pending writes with the snapshot")
+    void range_WithPendingWrites_ShouldReflectThem() {
+        index.upsert(5, 200);
+        index.upsert(6, 100);
+        index.remove(3);
+
+        PriceIndex.Result result = index.range(100, 500, false, 0, 10);
+
+        assertEquals(5, result.total());
+        assertEquals(List.of(2L, 4L, 6L, 5L, 1L), result.ids());
+        assertEquals(5, index.size());
+    }
+
+    @Test
+    @DisplayName("Should return the total but no ids past the last match")
+    void range_OffsetPastEnd_ShouldReturnNoIds() {
+        PriceIndex.Result result = index.range(0, 1000, false, 10, 5);
+
+        assertEquals(5, result.total());
+        assertEquals(List.of(), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should reject mismatched load arrays")
+    void load_MismatchedArrays_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> index.load(new long[] {1}, new long[0]));
+    }
+
+    @Test
+    @DisplayName("Should match a brute-force scan across compactions")
+    void range_AfterManyWrites_ShouldMatchBruteForce() {
+        Random random = new Random(42);
+        Map<Long, Long> expected = new HashMap<>();
+        long[] ids = new long[2000];
+        long[] cents = new long[2000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            cents[i] = random.nextInt(10_000);
+            expected.put(ids[i], cents[i]);
+        }
+        index.load(ids, cents);
+
+        for (int i = 0; i < 3000; i++) {
+            long id = 1 + random.nextInt(2500);
+            if (random.nextInt(4) == 0) {
+                index.remove(id);
+                expected.remove(id);
+            } else {
+                long price = random.nextInt(10_000);
+                index.upsert(id, price);
+                expected.put(id, price);
+            }
+
+            if (i % 500 == 0) {
+                long min = random.nextInt(5_000);
+                long max = min + random.nextInt(5_000);
+                boolean descending = random.nextBoolean();
+                List<Long> matching = new ArrayList<>(expected.entrySet().stream()
+                    .filter(entry -> entry.getValue() >= min && entry.getValue() <= max)
+                    .sorted(Comparator.<Map.Entry<Long, Long>>comparingLong(Map.Entry::getValue)
+                        .thenComparingLong(Map.Entry::getKey))
+                    .map(Map.Entry::getKey)
+                    .toList());
+                if (descending) {
+                    Collections.reverse(matching);
+                }
+
+                PriceIndex.Result result = index.range(min, max, descending, 7, 20);
+
+                assertEquals(matching.size(), result.total());
+                assertEquals(matching.subList(Math.min(7, matching.size()), Math.min(27, matching.size())), result.ids());
+            }
+        }
+        assertEquals(expected.size(), index.size());
+    }
+}
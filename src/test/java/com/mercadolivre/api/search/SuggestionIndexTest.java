@@ -0,0 +1,151 @@
+package com.mercadolivre.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SuggestionIndex - Unit Tests")
+class SuggestionIndexTest {
+
+    private SuggestionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Every prefix with a match keeps its list, so the tests cover keeping those lists current
+        index = new SuggestionIndex(1);
+        index.upsertAll(Map.of(
+            1L, "Teclado Mecânico Keychron K2",
+            2L, "Mouse Logitech MX Master 3",
+            3L, "Teclado",
+            4L, "Capa para Teclado"));
+    }
+
+    @Test
+    @DisplayName("Should rank name-start matches first, then shorter names")
+    void suggest_ShouldRankNameStartThenLength() {
+        assertEquals(List.of(3L, 1L, 4L), ids(index.suggest("tecl", 10)));
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents and match across words")
+    void suggest_ShouldFoldAndMatchPhrases() {
+        assertEquals(List.of(1L), ids(index.suggest("MECÂN", 10)));
+        assertEquals(List.of(1L), ids(index.suggest("teclado  mec", 10)));
+        assertTrue(index.suggest("xyz", 10).isEmpty());
+        assertTrue(index.suggest(" - ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should honour the limit")
+    void suggest_WithLimit_ShouldTruncate() {
+        assertEquals(List.of(3L), ids(index.suggest("teclado", 1)));
+    }
+
+    @Test
+    @DisplayName("Should drop old keys on rename and forget removed products")
+    void upsertAndRemove_ShouldUpdateSuggestions() {
+        index.upsert(3L, "Mouse sem fio");
+        assertEquals(List.of(1L, 4L), ids(index.suggest("tecl", 10)));
+        assertEquals(List.of(3L, 2L), ids(index.suggest("mouse", 10)));
+
+        index.remove(2L);
+        index.remove(3L);
+
+        assertTrue(index.suggest("mouse", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should keep the best products per prefix when more match than can be kept")
+    void suggest_ManyMatches_ShouldKeepBestAfterRemovals() {
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 100; id < 150; id++) {
+            names.put(id, "Cabo " + "x".repeat((int) (id - 100)));
+        }
+        index.upsertAll(names);
+        assertEquals(List.of(100L, 101L, 102L), ids(index.suggest("cabo", 3)));
+
+        index.remove(100L);
+        index.remove(101L);
+
+        assertEquals(List.of(102L, 103L, 104L), ids(index.suggest("cab", 3)));
+        assertEquals(SuggestionIndex.MAX_SUGGESTIONS, index.suggest("c", 20).size());
+    }
+
+    @Test
+    @DisplayName("Should match long prefixes only at a word start")
+    void suggest_WithLongPrefix_ShouldMatchWordStartsOnly() {
+        String tail = "cabo usb tipo c com carregamento rapido e transferencia de dados";
+        index.upsertAll(Map.of(10L, "Kit " + tail, 11L, "Kit x" + tail));
+
+        assertEquals(List.of(10L), ids(index.suggest(tail, 10)));
+        assertEquals(List.of(11L), ids(index.suggest("x" + tail, 10)));
+    }
+
+    @Test
+    @DisplayName("Should update the kept best products of short prefixes on writes")
+    void suggest_ShortPrefix_ShouldReflectWritesAfterItWasServed() {
+        assertEquals(List.of(4L), ids(index.suggest("ca", 10)));
+
+        index.upsert(5L, "Cabo");
+        assertEquals(List.of(5L, 4L), ids(index.suggest("ca", 10)));
+
+        index.upsert(5L, "Mouse pad");
+        index.remove(4L);
+        assertTrue(index.suggest("ca", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a short prefix's kept products once removals use up the spare ones")
+    void suggest_ShortPrefix_AfterManyRemovals_ShouldRescan() {
+        Map<Long, String> names = new HashMap<>();
+        for (long id = 100; id < 150; id++) {
+            names.put(id, "Cabo " + "x".repeat((int) (id - 100)));
+        }
+        index.upsertAll(names);
+        assertEquals(List.of(100L, 101L, 102L), ids(index.suggest("cab", 3)));
+
+        for (long id = 100; id < 116; id++) {
+            index.remove(id);
+            assertEquals(List.of(id + 1, id + 2, id + 3), ids(index.suggest("cab", 3)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should suggest the same products with and without kept lists across random writes")
+    void suggest_AfterRandomWrites_ShouldMatchUncachedIndex() {
+        SuggestionIndex cached = new SuggestionIndex(1);
+        SuggestionIndex uncached = new SuggestionIndex(Integer.MAX_VALUE);
+        String[] words = {"cabo", "cadeira", "capa", "teclado", "tela", "mouse", "usb", "c"};
+        String[] prefixes = {"c", "ca", "cab", "t", "te", "tec", "m", "cabo t", "u"};
+        Random random = new Random(7);
+        for (int step = 0; step < 2_000; step++) {
+            long id = random.nextInt(60);
+            if (random.nextInt(4) == 0) {
+                cached.remove(id);
+                uncached.remove(id);
+            } else {
+                StringBuilder name = new StringBuilder();
+                for (int word = random.nextInt(4); word >= 0; word--) {
+                    name.append(words[random.nextInt(words.length)]).append(' ');
+                }
+                cached.upsert(id, name.toString());
+                uncached.upsert(id, name.toString());
+            }
+            String prefix = prefixes[random.nextInt(prefixes.length)];
+            assertEquals(uncached.suggest(prefix, 10), cached.suggest(prefix, 10), "step " + step + ", prefix " + prefix);
+        }
+    }
+
+    private static List<Long> ids(List<SuggestionIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestionIndex.Suggestion::id).toList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mercadolivre.api.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TextAnalyzer - Unit Tests")
+class TextAnalyzerTest {
+
+    @Test
+    @DisplayName("Should fold accents and case")
+    void tokenize_ShouldFoldAccentsAndCase() {
+        assertEquals(List.of("teclado", "mecanico", "keychron", "k2"), TextAnalyzer.tokenize("Teclado Mecânico Keychron K2"));
+    }
+
+    @Test
+    @DisplayName("Should split on punctuation and drop stop words")
+    void tokenize_ShouldSplitAndDropStopWords() {
+        assertEquals(List.of("mouse", "fio", "7", "botoes", "programaveis"),
+            TextAnalyzer.tokenize("Mouse sem fio, 7 botões programáveis"));
+    }
+
+    @Test
+    @DisplayName("Should return no tokens for null or blank text")
+    void tokenize_Blank_ShouldReturnEmpty() {
+        assertTrue(TextAnalyzer.tokenize(null).isEmpty());
+        assertTrue(TextAnalyzer.tokenize("  -- ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should normalize to folded words separated by single spaces, keeping stop words")
+    void normalize_ShouldFoldAndCollapseSeparators() {
+        assertEquals("mouse sem fio 7 botoes", TextAnalyzer.normalize("  Mouse sem fio,  7 botões! "));
+        assertEquals("", TextAnalyzer.normalize(null));
+    }
+}
@@ -0,0 +1,80 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MissingProductCache - Unit Tests")
+class MissingProductCacheTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("Should remember a missing id until a product with that id is created")
+    void markMissing_ShouldBeInvalidatedByCreate() {
+        MissingProductCache cache = cache(false);
+
+        cache.markMissing(42L, cache.creationStamp());
+        assertTrue(cache.isKnownMissing(42L));
+
+        ProductChangedEvent created = ProductChangedEvent.created(product(42L));
+        cache.onProductCreating(created);
+        cache.onProductCreated(created);
+
+        assertFalse(cache.isKnownMissing(42L));
+    }
+
+    @Test
+    @DisplayName("Should not remember a miss that raced with a committed create")
+    void markMissing_AfterConcurrentCreate_ShouldBeIgnored() {
+        MissingProductCache cache = cache(false);
+        long stamp = cache.creationStamp();
+
+        cache.onProductCreated(ProductChangedEvent.created(product(42L)));
+        cache.markMissing(42L, stamp);
+
+        assertFalse(cache.isKnownMissing(42L));
+    }
+
+    @Test
+    @DisplayName("Should reject ids absent from the loaded filter and accept newly created ones")
+    void isKnownMissing_WithFilter_ShouldUseKnownIds() {
+        when(productRepository.streamAllIds()).thenReturn(Stream.of(1L, 2L, 3L));
+        MissingProductCache cache = cache(true);
+
+        assertFalse(cache.isKnownMissing(999L));
+        cache.loadKnownIds();
+
+        assertFalse(cache.isKnownMissing(2L));
+        assertTrue(cache.isKnownMissing(999L));
+        assertEquals(1, cache.filterRejectionCount());
+
+        cache.onProductCreating(ProductChangedEvent.created(product(999L)));
+        assertFalse(cache.isKnownMissing(999L));
+    }
+
+    private MissingProductCache cache(boolean idFilterEnabled) {
+        return new MissingProductCache(new ConcurrentMapCacheManager(MissingProductCache.MISSING_PRODUCTS_CACHE),
+            productRepository, idFilterEnabled, 1_000, 0.001);
+    }
+
+    private ProductResponseDTO product(Long id) {
+        return new ProductResponseDTO(id, "Notebook", null, null);
+    }
+}
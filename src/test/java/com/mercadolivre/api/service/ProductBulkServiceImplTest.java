@@ -0,0 +1,233 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mercadolivre.api.dto.ProductBatchItemDTO;
+import com.mercadolivre.api.dto.ProductBatchItemStatus;
+import com.mercadolivre.api.dto.ProductBatchOperation;
+import com.mercadolivre.api.dto.ProductBatchResponseDTO;
+import com.mercadolivre.api.dto.ProductImportResultDTO;
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.importer.ProductImportFormat;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+
+@DisplayName("ProductBulkServiceImpl - Unit Tests")
+class ProductBulkServiceImplTest {
+
+    private ProductRepository productRepository;
+    private CacheManager cacheManager;
+    private EntityManager entityManager;
+    private ApplicationEventPublisher eventPublisher;
+    private ProductBulkServiceImpl productBulkService;
+
+    private ProductRequestDTO requestDTO;
+
+    private static long nextId = 100;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        cacheManager = new ConcurrentMapCacheManager("products");
+        entityManager = mock(EntityManager.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        productBulkService = new ProductBulkServiceImpl(
+            productRepository,
+            new ProductMapper(),
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            mock(PlatformTransactionManager.class),
+            cacheManager,
+            entityManager,
+            new ObjectMapper(),
+            eventPublisher,
+            2
+        );
+
+        requestDTO = new ProductRequestDTO("Notebook", "Dell Inspiron", new BigDecimal("3500.00"));
+        when(productRepository.saveAll(anyIterable())).thenAnswer(ProductBulkServiceImplTest::assignIds);
+    }
+
+    @Test
+    @DisplayName("Should apply create, update and delete and report results in request order")
+    @SuppressWarnings("null")
+    void applyBatch_ShouldReportResultPerItemInOrder() {
+        Product existing = product(1L, "Mouse", "450.00");
+        Product removed = product(2L, "Webcam", "380.00");
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of(existing, removed));
+        cacheManager.getCache("products").put(2L, new ProductResponseDTO(2L, "Webcam", null, new BigDecimal("380.00")));
+
+        ProductBatchResponseDTO response = productBulkService.applyBatch(List.of(
+            new ProductBatchItemDTO(ProductBatchOperation.UPDATE, 1L, requestDTO),
+            new ProductBatchItemDTO(ProductBatchOperation.DELETE, 2L, null),
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, requestDTO)
+        ));
+
+        assertEquals(3, response.total());
+        assertEquals(3, response.succeeded());
+        assertEquals(0, response.failed());
+        assertEquals(ProductBatchItemStatus.UPDATED, response.results().get(0).status());
+        assertEquals("Notebook", response.results().get(0).product().name());
+        assertEquals(ProductBatchItemStatus.DELETED, response.results().get(1).status());
+        assertEquals(ProductBatchItemStatus.CREATED, response.results().get(2).status());
+        assertEquals(2, response.results().get(2).index());
+
+        assertEquals("Notebook", cacheManager.getCache("products").get(1L, ProductResponseDTO.class).name());
+        assertNull(cacheManager.getCache("products").get(2L));
+        verify(productRepository, times(2)).saveAll(anyIterable());
+        verify(productRepository, times(2)).deleteAll(anyIterable());
+        verify(eventPublisher).publishEvent(ProductChangedEvent.deleted(2L));
+        verify(eventPublisher, times(3)).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should report invalid items without touching the database")
+    void applyBatch_WithInvalidItems_ShouldReportInvalid() {
+        ProductBatchResponseDTO response = productBulkService.applyBatch(List.of(
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, new ProductRequestDTO("AB", null, BigDecimal.ONE)),
+            new ProductBatchItemDTO(ProductBatchOperation.UPDATE, null, requestDTO),
+            new ProductBatchItemDTO(null, 1L, requestDTO)
+        ));
+
+        assertEquals(3, response.failed());
+        response.results().forEach(result -> assertEquals(ProductBatchItemStatus.INVALID, result.status()));
+        assertNotNull(response.results().get(0).message());
+        verify(productRepository, never()).saveAll(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should report NOT_FOUND for missing products")
+    void applyBatch_WithMissingProduct_ShouldReportNotFound() {
+        when(productRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        ProductBatchResponseDTO response = productBulkService.applyBatch(List.of(
+            new ProductBatchItemDTO(ProductBatchOperation.DELETE, 99L, null)
+        ));
+
+        assertEquals(ProductBatchItemStatus.NOT_FOUND, response.results().get(0).status());
+        assertEquals(1, response.failed());
+    }
+
+    @Test
+    @DisplayName("Should mark every item of a rolled back chunk as FAILED and continue with the next chunk")
+    @SuppressWarnings("null")
+    void applyBatch_WhenChunkFails_ShouldMarkChunkAsFailed() {
+        doThrow(new IllegalStateException("constraint violation"))
+            .doAnswer(ProductBulkServiceImplTest::assignIds)
+            .when(productRepository).saveAll(anyIterable());
+
+        ProductBatchResponseDTO response = productBulkService.applyBatch(List.of(
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, requestDTO),
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, requestDTO),
+            new ProductBatchItemDTO(ProductBatchOperation.CREATE, null, requestDTO)
+        ));
+
+        assertEquals(ProductBatchItemStatus.FAILED, response.results().get(0).status());
+        assertEquals(ProductBatchItemStatus.FAILED, response.results().get(1).status());
+        assertEquals(ProductBatchItemStatus.CREATED, response.results().get(2).status());
+        verify(productRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should export every product as one JSON line and detach it")
+    void exportProducts_ShouldWriteNdjsonAndDetachEntities() throws IOException {
+        Product first = product(1L, "Mouse", "450.00");
+        Product second = product(2L, "Teclado Mecânico", "650.00");
+        when(productRepository.streamAllBy()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = productBulkService.exportProducts(outputStream);
+
+        assertEquals(2, exported);
+        assertEquals(
+            "{\"id\":1,\"name\":\"Mouse\",\"description\":null,\"price\":450.00}\n"
+                + "{\"id\":2,\"name\":\"Teclado Mecânico\",\"description\":null,\"price\":650.00}\n",
+            outputStream.toString(StandardCharsets.UTF_8)
+        );
+        verify(entityManager, times(1)).detach(first);
+        verify(entityManager, times(1)).detach(second);
+    }
+
+    @Test
+    @DisplayName("Should import valid rows in chunks and report invalid lines")
+    void importProducts_ShouldPersistValidRowsInChunks() throws IOException {
+        String body = "name,description,price\n"
+            + "Mouse,,450.00\n"
+            + "AB,,10.00\n"
+            + "Teclado,,650.00\n"
+            + "Webcam,,380.00\n";
+
+        ProductImportResultDTO result = productBulkService.importProducts(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ProductImportFormat.CSV);
+
+        assertEquals(4, result.processed());
+        assertEquals(3, result.imported());
+        assertEquals(1, result.failed());
+        assertEquals(3, result.errors().get(0).line());
+        verify(productRepository, times(2)).saveAll(anyIterable());
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(3)).publishEvent(any(ProductChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should report every line of a rolled back import chunk")
+    void importProducts_WhenChunkFails_ShouldReportChunkLines() throws IOException {
+        doThrow(new IllegalStateException("constraint violation")).when(productRepository).saveAll(anyIterable());
+        String body = "{\"name\":\"Mouse\",\"price\":450.00}\n{\"name\":\"Webcam\",\"price\":380.00}\n";
+
+        ProductImportResultDTO result = productBulkService.importProducts(
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), ProductImportFormat.NDJSON);
+
+        assertEquals(0, result.imported());
+        assertEquals(2, result.failed());
+        assertEquals(1, result.errors().get(0).line());
+        assertEquals(2, result.errors().get(1).line());
+    }
+
+    private static Object assignIds(InvocationOnMock invocation) {
+        Iterable<Product> products = invocation.getArgument(0);
+        products.forEach(product -> product.setId(nextId++));
+        return products;
+    }
+
+    private static Product product(Long id, String name, String price) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(new BigDecimal(price));
+        return product;
+    }
+}
@@ -0,0 +1,175 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.mercadolivre.api.cache.SingleFlight;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("Product cache misses - Concurrency Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ProductCacheMissConcurrencyTest {
+
+    private static final int CALLERS = 16;
+    private static final String CALLER_PREFIX = "product-miss-";
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private SingleFlight<Long, ProductResponseDTO> productLoads;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private ExecutorService executor;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS, new CustomizableThreadFactory(CALLER_PREFIX));
+        Product entity = new Product();
+        entity.setName("Hot product");
+        entity.setPrice(new BigDecimal("10.00"));
+        product = productRepository.save(entity);
+        cacheManager.getCache("products").evict(product.getId());
+        CountingDataSource.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        productRepository.deleteById(product.getId());
+    }
+
+    @Test
+    @DisplayName("Should hold at most one connection while concurrent misses for the same id wait on one load")
+    void getProductById_WithConcurrentMisses_ShouldUseOneConnection() throws Exception {
+        long loadsBefore = productLoads.loadCount();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ProductResponseDTO>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return productService.getProductById(product.getId());
+            }));
+        }
+        start.countDown();
+        for (Future<ProductResponseDTO> result : results) {
+            assertEquals(product.getId(), result.get(30, TimeUnit.SECONDS).id());
+        }
+
+        assertEquals(1, productLoads.loadCount() - loadsBefore);
+        assertTrue(CountingDataSource.peakOpen.get() <= 1, "peak open connections: " + CountingDataSource.peakOpen.get());
+    }
+
+    @Test
+    @DisplayName("Should report the time of the database load behind a miss as cache.load")
+    void getProductById_OnMiss_ShouldRecordLoadTime() {
+        FunctionTimer loads = meterRegistry.get("cache.load").tag("cache", "products").functionTimer();
+        double countBefore = loads.count();
+        double timeBefore = loads.totalTime(TimeUnit.MILLISECONDS);
+
+        productService.getProductById(product.getId());
+        productService.getProductById(product.getId());
+
+        assertEquals(1, loads.count() - countBefore);
+        assertTrue(loads.totalTime(TimeUnit.MILLISECONDS) > timeBefore);
+    }
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    // Tracks connections borrowed by the test's callers. Borrowing is slowed down so the other
+    // callers arrive while the first one's load is still in flight.
+    static class CountingDataSource extends DelegatingDataSource {
+
+        static final AtomicInteger open = new AtomicInteger();
+        static final AtomicInteger peakOpen = new AtomicInteger();
+
+        CountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        static void reset() {
+            open.set(0);
+            peakOpen.set(0);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            if (!Thread.currentThread().getName().startsWith(CALLER_PREFIX)) {
+                return connection;
+            }
+            peakOpen.accumulateAndGet(open.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close")) {
+                        open.decrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+        }
+    }
+}
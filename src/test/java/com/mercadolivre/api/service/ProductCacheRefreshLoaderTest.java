@@ -0,0 +1,50 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheRefreshLoader - Unit Tests")
+class ProductCacheRefreshLoaderTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("Should reload the current product as a DTO")
+    void load_ExistingProduct_ShouldReturnDto() {
+        Product product = new Product();
+        product.setId(1L);
+        product.setName("Notebook");
+        product.setPrice(new BigDecimal("3500.00"));
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        ProductCacheRefreshLoader loader = new ProductCacheRefreshLoader(productRepository, new ProductMapper());
+
+        assertEquals("products", loader.cacheName());
+        assertEquals(1L, ((ProductResponseDTO) loader.load(1L)).id());
+    }
+
+    @Test
+    @DisplayName("Should return null for a product deleted since it was cached")
+    void load_DeletedProduct_ShouldReturnNull() {
+        when(productRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertNull(new ProductCacheRefreshLoader(productRepository, new ProductMapper()).load(1L));
+    }
+}
@@ -0,0 +1,193 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+
+import com.mercadolivre.api.cache.CaffeineCacheFactory;
+import com.mercadolivre.api.cache.HotIdSnapshot;
+import com.mercadolivre.api.cache.InMemoryCacheInvalidationBus;
+import com.mercadolivre.api.cache.InMemoryRemoteCacheStore;
+import com.mercadolivre.api.cache.TwoTierCacheManager;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.mapper.ProductMapper;
+import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheWarmer - Unit Tests")
+class ProductCacheWarmerTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private InMemoryRemoteCacheStore sharedStore;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        sharedStore = new InMemoryRemoteCacheStore();
+        cacheManager = new TwoTierCacheManager(new CaffeineCacheFactory("maximumSize=100", Map.of(), Map.of()),
+            List.of("products"), Set.of(), null, new InMemoryCacheInvalidationBus("node-a"), Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should load the configured ids in chunks and report the progress")
+    void run_WithConfiguredIds_ShouldLoadInChunks() {
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product(1L), product(2L)));
+        when(productRepository.findAllById(List.of(3L, 4L))).thenReturn(List.of(product(3L)));
+        when(productRepository.findAllById(List.of(5L))).thenReturn(List.of(product(5L)));
+        ProductCacheWarmer warmer = warmer(List.of(1L, 2L, 3L, 4L, 5L), null, 100, 2);
+
+        warmer.run(null);
+
+        Cache products = cacheManager.getCache("products");
+        assertNotNull(products.get(1L));
+        assertNotNull(products.get(5L));
+        assertNull(products.get(4L));
+        ProductCacheWarmer.Progress progress = warmer.progress();
+        assertEquals(ProductCacheWarmer.State.COMPLETED, progress.state());
+        assertEquals(5, progress.hotIds());
+        assertEquals(4, progress.loaded());
+    }
+
+    @Test
+    @DisplayName("Should put configured ids before the snapshot's and stop at top-n")
+    void run_WithSnapshot_ShouldMergeUpToTopN() throws Exception {
+        Path file = tempDir.resolve("hot-ids");
+        new HotIdSnapshot(file).write(List.of(3L, 4L, 5L));
+        when(productRepository.findAllById(List.of(1L, 3L, 4L))).thenReturn(List.of(product(1L), product(3L), product(4L)));
+
+        ProductCacheWarmer warmer = warmer(List.of(1L, 3L), file.toString(), 3, 100);
+        warmer.run(null);
+
+        assertEquals(3, warmer.progress().loaded());
+        assertNull(cacheManager.getCache("products").get(5L));
+    }
+
+    @Test
+    @DisplayName("Should keep a value cached by a concurrent update instead of the loaded one")
+    void run_WithCachedProduct_ShouldNotOverwriteIt() {
+        ProductResponseDTO updated = new ProductResponseDTO(1L, "Updated", null, BigDecimal.TEN);
+        // The update commits and is cached while the warm-up query is running
+        when(productRepository.findAllById(List.of(1L))).thenAnswer(invocation -> {
+            cacheManager.getCache("products").put(1L, updated);
+            return List.of(product(1L));
+        });
+
+        warmer(List.of(1L), null, 100, 100).run(null);
+
+        assertEquals(updated, cacheManager.getCache("products").get(1L, ProductResponseDTO.class));
+    }
+
+    @Test
+    @DisplayName("Should take products from the shared tier without querying the database")
+    void run_WithSharedTier_ShouldSkipDatabaseForSharedHits() {
+        cacheManager = new TwoTierCacheManager(new CaffeineCacheFactory("maximumSize=100", Map.of(), Map.of()),
+            List.of("products"), Set.of("products"), sharedStore, new InMemoryCacheInvalidationBus("node-a"), Duration.ofMinutes(10));
+        sharedStore.put("products", 1L, new ProductResponseDTO(1L, "Shared", null, BigDecimal.ONE), Duration.ofMinutes(10));
+        when(productRepository.findAllById(List.of(2L))).thenReturn(List.of(product(2L)));
+
+        ProductCacheWarmer warmer = warmer(List.of(1L, 2L), null, 100, 100);
+        warmer.run(null);
+
+        assertEquals(2, warmer.progress().loaded());
+        assertNull(sharedStore.get("products", 2L));
+    }
+
+    @Test
+    @DisplayName("Should finish as failed, without failing startup, when the database is unavailable")
+    void run_WhenDatabaseFails_ShouldReportFailed() {
+        when(productRepository.findAllById(anyIterable())).thenThrow(new IllegalStateException("database down"));
+        ProductCacheWarmer warmer = warmer(List.of(1L), null, 100, 100);
+
+        warmer.run(null);
+
+        assertEquals(ProductCacheWarmer.State.FAILED, warmer.progress().state());
+    }
+
+    @Test
+    @DisplayName("Should not query the database when disabled")
+    void run_WhenDisabled_ShouldDoNothing() {
+        ProductCacheWarmer warmer = new ProductCacheWarmer(cacheManager, productRepository, new ProductMapper(),
+            false, 100, List.of(1L), "", Duration.ZERO, 100, 2, Duration.ofSeconds(10));
+
+        warmer.run(null);
+
+        assertEquals(ProductCacheWarmer.State.DISABLED, warmer.progress().state());
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should write the hottest cached ids on shutdown and keep the old snapshot when the cache is empty")
+    void onShutdown_ShouldSnapshotHottestIds() throws Exception {
+        Path file = tempDir.resolve("hot-ids");
+        ProductCacheWarmer warmer = warmer(List.of(), file.toString(), 100, 100);
+
+        warmer.onShutdown();
+        assertFalse(Files.exists(file));
+
+        Cache products = cacheManager.getCache("products");
+        products.put(7L, new ProductResponseDTO(7L, "Seven", null, BigDecimal.ONE));
+        products.put(8L, new ProductResponseDTO(8L, "Eight", null, BigDecimal.ONE));
+        warmer.onShutdown();
+
+        assertEquals(Set.of(7L, 8L), Set.copyOf(new HotIdSnapshot(file).read()));
+        verify(productRepository, never()).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should feed the next instance's warm-up from the previous instance's snapshot")
+    void snapshot_ShouldWarmTheNextInstance() throws Exception {
+        Path file = tempDir.resolve("hot-ids");
+        cacheManager.getCache("products").put(9L, new ProductResponseDTO(9L, "Nine", null, BigDecimal.ONE));
+        warmer(List.of(), file.toString(), 100, 100).onShutdown();
+
+        setUp();
+        when(productRepository.findAllById(List.of(9L))).thenReturn(List.of(product(9L)));
+        warmer(List.of(), file.toString(), 100, 100).run(null);
+
+        assertNotNull(cacheManager.getCache("products").get(9L));
+        verify(productRepository, times(1)).findAllById(List.of(9L));
+    }
+
+    private ProductCacheWarmer warmer(List<Long> ids, String snapshotFile, int topN, int chunkSize) {
+        return new ProductCacheWarmer(cacheManager, productRepository, new ProductMapper(),
+            true, topN, ids, snapshotFile == null ? "" : snapshotFile, Duration.ZERO, chunkSize, 2, Duration.ofSeconds(10));
+    }
+
+    private Product product(Long id) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setPrice(new BigDecimal("10.00"));
+        return product;
+    }
+}
@@ -0,0 +1,48 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductCacheWarmupHealthIndicator - Unit Tests")
+class ProductCacheWarmupHealthIndicatorTest {
+
+    @Mock
+    private ProductCacheWarmer warmer;
+
+    @InjectMocks
+    private ProductCacheWarmupHealthIndicator indicator;
+
+    @Test
+    @DisplayName("Should be out of service with the progress while warming up")
+    void health_WhileWarming_ShouldBeOutOfService() {
+        when(warmer.progress()).thenReturn(new ProductCacheWarmer.Progress(ProductCacheWarmer.State.WARMING, 500, 120, 850));
+
+        Health health = indicator.health();
+
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals(500, health.getDetails().get("hotIds"));
+        assertEquals(120, health.getDetails().get("loaded"));
+        assertEquals(850L, health.getDetails().get("elapsedMs"));
+    }
+
+    @Test
+    @DisplayName("Should be up once the warm-up ends, even if it timed out")
+    void health_AfterTimeout_ShouldBeUp() {
+        when(warmer.progress()).thenReturn(new ProductCacheWarmer.Progress(ProductCacheWarmer.State.TIMED_OUT, 500, 300, 30_000));
+
+        Health health = indicator.health();
+
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(ProductCacheWarmer.State.TIMED_OUT, health.getDetails().get("state"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.CompositeHealth;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("Products cache warm-up - Integration Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = "products.cache.warmup.ids=1,2,999")
+class ProductCacheWarmupTest {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    @Test
+    @DisplayName("Should have the configured products cached and report the warm-up in the readiness group")
+    void startup_ShouldWarmCacheBeforeReadiness() {
+        assertNotNull(cacheManager.getCache("products").get(1L));
+        assertNotNull(cacheManager.getCache("products").get(2L));
+        assertNull(cacheManager.getCache("products").get(999L));
+
+        CompositeHealth readiness = (CompositeHealth) healthEndpoint.healthForPath("readiness");
+        Health warmup = (Health) readiness.getComponents().get("productCacheWarmup");
+
+        assertEquals(Status.UP, readiness.getStatus());
+        assertEquals(ProductCacheWarmer.State.COMPLETED, warmup.getDetails().get("state"));
+        assertEquals(3, warmup.getDetails().get("hotIds"));
+        assertEquals(2, warmup.getDetails().get("loaded"));
+    }
+}
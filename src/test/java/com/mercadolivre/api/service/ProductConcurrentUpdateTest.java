@@ -0,0 +1,131 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.mercadolivre.api.dto.ProductRequestDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.exception.PreconditionFailedException;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@DisplayName("Product updates - Concurrency Tests")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestPropertySource(properties = {
+    "products.updates.max-attempts=200",
+    "products.updates.retry-backoff=1ms"
+})
+class ProductConcurrentUpdateTest {
+
+    private static final int WRITERS = 3;
+    private static final int UPDATES_PER_WRITER = 40;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private ExecutorService executor;
+    private ProductResponseDTO product;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(WRITERS * 2);
+        product = productService.createProduct(new ProductRequestDTO("Name 0", "Description 0", new BigDecimal("1000.00")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        productRepository.deleteById(product.id());
+    }
+
+    @Test
+    @DisplayName("Should keep every writer's change when each owns a different field")
+    void modifyProduct_WithConcurrentWriters_ShouldNotLoseUpdates() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Void>> writers = List.of(
+            writer(start, i -> current -> new ProductRequestDTO("Name " + i, current.description(), current.price())),
+            writer(start, i -> current -> new ProductRequestDTO(current.name(), "Description " + i, current.price())),
+            writer(start, i -> current -> new ProductRequestDTO(current.name(), current.description(), BigDecimal.valueOf(i))));
+
+        List<Future<Void>> results = new ArrayList<>();
+        for (Callable<Void> writer : writers) {
+            results.add(executor.submit(writer));
+        }
+        start.countDown();
+        for (Future<Void> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+
+        var stored = productRepository.findById(product.id()).orElseThrow();
+        assertEquals("Name " + UPDATES_PER_WRITER, stored.getName());
+        assertEquals("Description " + UPDATES_PER_WRITER, stored.getDescription());
+        assertEquals(0, BigDecimal.valueOf(UPDATES_PER_WRITER).compareTo(stored.getPrice()));
+        assertEquals(product.version() + WRITERS * UPDATES_PER_WRITER, stored.getVersion());
+        assertEquals(stored.getVersion(), productService.getProductById(product.id()).version());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of several If-Match writers of the same version win")
+    void updateProduct_WithSameExpectedVersion_ShouldAcceptOnlyOne() throws Exception {
+        int writers = WRITERS * 2;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            var request = new ProductRequestDTO("Writer " + w, "Description", new BigDecimal("2.00"));
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    productService.updateProduct(product.id(), request, product.version());
+                    return true;
+                } catch (PreconditionFailedException e) {
+                    return false;
+                }
+            }));
+        }
+        start.countDown();
+
+        int accepted = 0;
+        for (Future<Boolean> result : results) {
+            if (result.get(60, TimeUnit.SECONDS)) {
+                accepted++;
+            }
+        }
+
+        var stored = productRepository.findById(product.id()).orElseThrow();
+        assertEquals(1, accepted);
+        assertEquals(product.version() + 1, stored.getVersion());
+        assertTrue(stored.getName().startsWith("Writer "));
+    }
+
+    private Callable<Void> writer(CountDownLatch start, IntFunction<UnaryOperator<ProductRequestDTO>> change) {
+        return () -> {
+            start.await();
+            for (int i = 1; i <= UPDATES_PER_WRITER; i++) {
+                productService.modifyProduct(product.id(), change.apply(i));
+            }
+            return null;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.mercadolivre.api.dto.PriceBucketDTO;
+import com.mercadolivre.api.dto.ProductFacetsDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductFacetServiceImpl - Unit Tests")
+class ProductFacetServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductFacetServiceImpl facetService;
+
+    @BeforeEach
+    void setUp() {
+        facetService = new ProductFacetServiceImpl(productRepository, transactionManager,
+            new BigDecimal[] {new BigDecimal("100"), new BigDecimal("1000")});
+    }
+
+    @Test
+    @DisplayName("Should describe every bucket with its bounds")
+    void getFacets_ShouldListBuckets() {
+        ProductFacetsDTO facets = facetService.getFacets();
+
+        assertEquals(0, facets.totalProducts());
+        assertEquals(List.of(new BigDecimal("0.00"), new BigDecimal("100.00"), new BigDecimal("1000.00")),
+            facets.priceHistogram().stream().map(PriceBucketDTO::minPrice).toList());
+        assertEquals(new BigDecimal("100.00"), facets.priceHistogram().get(0).maxPrice());
+        assertNull(facets.priceHistogram().get(2).maxPrice());
+    }
+
+    @Test
+    @DisplayName("Should count the catalog on rebuild and follow later writes")
+    void rebuild_ThenEvents_ShouldKeepCountsCurrent() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(
+            product(1L, "3500.00"), product(2L, "450.00"), product(3L, "650.00"), product(4L, "99.99")));
+
+        assertEquals(List.of(1L, 2L, 1L), counts(facetService.rebuild()));
+
+        facetService.onProductChanged(ProductChangedEvent.created(product(5L, "20.00")));
+        facetService.onProductChanged(ProductChangedEvent.updated(product(1L, "999.99")));
+        facetService.onProductChanged(ProductChangedEvent.deleted(2L));
+
+        ProductFacetsDTO facets = facetService.getFacets();
+        assertEquals(4, facets.totalProducts());
+        assertEquals(List.of(2L, 2L, 0L), counts(facets));
+    }
+
+    @Test
+    @DisplayName("Should replace drifted counters with an exact recount")
+    void rebuild_AfterDrift_ShouldReconcile() {
+        facetService.onProductChanged(ProductChangedEvent.created(product(9L, "10.00")));
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(product(1L, "3500.00")));
+
+        ProductFacetsDTO facets = facetService.rebuild();
+
+        assertEquals(1, facets.totalProducts());
+        assertEquals(List.of(0L, 0L, 1L), counts(facets));
+    }
+
+    @Test
+    @DisplayName("Should count the catalog when the application is ready")
+    void rebuildOnStartup_ShouldCountCatalog() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(product(1L, "3500.00"), product(2L, "450.00")));
+
+        facetService.rebuildOnStartup();
+
+        assertEquals(List.of(0L, 1L, 1L), counts(facetService.getFacets()));
+    }
+
+    private static List<Long> counts(ProductFacetsDTO facets) {
+        return facets.priceHistogram().stream().map(PriceBucketDTO::count).toList();
+    }
+
+    private static ProductResponseDTO product(Long id, String price) {
+        return new ProductResponseDTO(id, "Product " + id, null, new BigDecimal(price));
+    }
+}
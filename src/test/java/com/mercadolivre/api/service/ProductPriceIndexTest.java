@@ -0,0 +1,146 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceIndex;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductPriceIndex - Unit Tests")
+class ProductPriceIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("Should answer price ranges after the startup rebuild")
+    void range_AfterRebuild_ShouldReturnMatchingIds() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(
+            product(1L, "3500.00"), product(2L, "450.00"), product(3L, "650.00")));
+
+        priceIndex.rebuildIndex();
+        PriceIndex.Result result = priceIndex.range(new BigDecimal("400"), new BigDecimal("650.00"), false, 0, 10).orElseThrow();
+
+        assertTrue(priceIndex.isReady());
+        assertEquals(2, result.total());
+        assertEquals(List.of(2L, 3L), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should round fractional bounds inward and treat null bounds as open")
+    void range_WithFractionalAndOpenBounds_ShouldRoundInward() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(product(1L, "10.00"), product(2L, "10.01")));
+        priceIndex.rebuildIndex();
+
+        assertEquals(List.of(2L), priceIndex.range(new BigDecimal("10.001"), null, false, 0, 10).orElseThrow().ids());
+        assertEquals(List.of(1L), priceIndex.range(null, new BigDecimal("10.009"), false, 0, 10).orElseThrow().ids());
+    }
+
+    @Test
+    @DisplayName("Should apply create, update and delete events incrementally")
+    void onProductChanged_ShouldUpdateIndex() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.empty());
+        priceIndex.rebuildIndex();
+
+        priceIndex.onProductChanged(ProductChangedEvent.created(product(7L, "99.90")));
+        priceIndex.onProductChanged(ProductChangedEvent.created(product(8L, "10.00")));
+        priceIndex.onProductChanged(ProductChangedEvent.updated(product(7L, "5.00")));
+        priceIndex.onProductChanged(ProductChangedEvent.deleted(8L));
+
+        PriceIndex.Result result = priceIndex.range(null, null, false, 0, 10).orElseThrow();
+        assertEquals(List.of(7L), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should apply writes seen during the rebuild before answering queries")
+    void rebuildIndex_WithWritesDuringLoad_ShouldApplyThem() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenAnswer(invocation -> {
+            priceIndex.onProductChanged(ProductChangedEvent.updated(product(1L, "5.00")));
+            priceIndex.onProductChanged(ProductChangedEvent.deleted(2L));
+            return Stream.of(product(1L, "10.00"), product(2L, "20.00"));
+        });
+
+        priceIndex.rebuildIndex();
+
+        assertTrue(priceIndex.isReady());
+        PriceIndex.Result result = priceIndex.range(null, new BigDecimal("5.00"), false, 0, 10).orElseThrow();
+        assertEquals(1, result.total());
+        assertEquals(List.of(1L), result.ids());
+        assertEquals(1, priceIndex.range(null, null, false, 0, 10).orElseThrow().total());
+    }
+
+    @Test
+    @DisplayName("Should stay unready when the rebuild fails")
+    void rebuildIndex_WhenLoadFails_ShouldNotBecomeReady() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenThrow(new IllegalStateException("database unavailable"));
+
+        assertThrows(IllegalStateException.class, priceIndex::rebuildIndex);
+
+        assertFalse(priceIndex.isReady());
+        assertTrue(priceIndex.range(null, null, false, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget ids that readers found missing from the database")
+    void discard_ShouldRemoveStaleIds() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, true);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(product(1L, "10.00"), product(2L, "20.00")));
+        priceIndex.rebuildIndex();
+
+        priceIndex.discard(List.of(2L));
+
+        PriceIndex.Result result = priceIndex.range(null, null, false, 0, 10).orElseThrow();
+        assertEquals(1, result.total());
+        assertEquals(List.of(1L), result.ids());
+    }
+
+    @Test
+    @DisplayName("Should not answer queries when disabled")
+    void range_WhenDisabled_ShouldBeEmpty() {
+        ProductPriceIndex priceIndex = new ProductPriceIndex(productRepository, transactionManager, false);
+
+        priceIndex.rebuildIndex();
+        priceIndex.onProductChanged(ProductChangedEvent.created(product(7L, "99.90")));
+
+        assertFalse(priceIndex.isReady());
+        assertTrue(priceIndex.range(null, null, false, 0, 10).isEmpty());
+    }
+
+    private static ProductResponseDTO product(Long id, String price) {
+        return new ProductResponseDTO(id, "Product " + id, null, new BigDecimal(price));
+    }
+}
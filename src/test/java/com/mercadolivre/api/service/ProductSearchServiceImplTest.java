@@ -0,0 +1,134 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import com.mercadolivre.api.dto.ProductLookupResultDTO;
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSearchResponseDTO;
+import com.mercadolivre.api.dto.ProductSuggestionDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.repository.ProductRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductSearchServiceImpl - Unit Tests")
+class ProductSearchServiceImplTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ProductSearchServiceImpl searchService;
+
+    private final ProductResponseDTO keyboard = new ProductResponseDTO(3L, "Teclado Mecânico Keychron K2",
+        "Teclado mecânico sem fio", new BigDecimal("650.00"));
+    private final ProductResponseDTO mouse = new ProductResponseDTO(2L, "Mouse Logitech MX Master 3",
+        "Mouse sem fio com teclado virtual", new BigDecimal("450.00"));
+
+    @BeforeEach
+    void setUp() {
+        searchService = new ProductSearchServiceImpl(productRepository, productService, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should rebuild the index from the catalog and rank name matches first")
+    void search_AfterRebuild_ShouldRankNameMatchesFirst() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(mouse, keyboard));
+        when(productService.getProductsByIds(List.of(3L, 2L))).thenReturn(new ProductMultiGetResponseDTO(2, 2,
+            List.of(ProductLookupResultDTO.found(keyboard), ProductLookupResultDTO.found(mouse))));
+
+        searchService.rebuildIndex();
+        ProductSearchResponseDTO result = searchService.search("teclado mecanico", 0, 10);
+
+        assertEquals(2, searchService.indexedDocuments());
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(3L, 2L), result.hits().stream().map(hit -> hit.product().id()).toList());
+        assertTrue(result.hits().get(0).score() > result.hits().get(1).score());
+    }
+
+    @Test
+    @DisplayName("Should return an empty page past the last hit even when page * size exceeds int range")
+    void search_PageBeyondIntOffset_ShouldReturnEmptyPage() {
+        searchService.onProductChanged(ProductChangedEvent.created(keyboard));
+
+        ProductSearchResponseDTO result = searchService.search("teclado", Integer.MAX_VALUE, 100);
+
+        assertEquals(1, result.totalHits());
+        assertTrue(result.hits().isEmpty());
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("Should apply create, update and delete events incrementally")
+    void onProductChanged_ShouldUpdateIndex() {
+        when(productService.getProductsByIds(anyList())).thenReturn(new ProductMultiGetResponseDTO(1, 1,
+            List.of(ProductLookupResultDTO.found(keyboard))));
+
+        searchService.onProductChanged(ProductChangedEvent.created(keyboard));
+        assertEquals(1, searchService.search("KEYCHRON", 0, 10).totalHits());
+
+        searchService.onProductChanged(ProductChangedEvent.updated(
+            new ProductResponseDTO(3L, "Teclado Logitech", null, new BigDecimal("300.00"))));
+        assertEquals(0, searchService.search("keychron", 0, 10).totalHits());
+
+        searchService.onProductChanged(ProductChangedEvent.deleted(3L));
+        assertEquals(0, searchService.indexedDocuments());
+        assertEquals(0, searchService.suggestableProducts());
+    }
+
+    @Test
+    @DisplayName("Should suggest names loaded by the rebuild and follow later renames")
+    void suggest_AfterRebuildAndUpdate_ShouldReflectNames() {
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        when(productRepository.streamAllAsDto()).thenReturn(Stream.of(mouse, keyboard));
+
+        searchService.rebuildIndex();
+
+        assertEquals(List.of(3L), searchService.suggest("MECA", 10).suggestions().stream().map(ProductSuggestionDTO::id).toList());
+        assertEquals(List.of(2L), searchService.suggest("mouse", 10).suggestions().stream().map(ProductSuggestionDTO::id).toList());
+
+        searchService.onProductChanged(ProductChangedEvent.updated(
+            new ProductResponseDTO(3L, "Mousepad Gamer", null, new BigDecimal("80.00"))));
+
+        assertTrue(searchService.suggest("meca", 10).suggestions().isEmpty());
+        assertEquals(List.of(3L, 2L), searchService.suggest("mouse", 10).suggestions().stream().map(ProductSuggestionDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject an out-of-range suggestion size")
+    void suggest_InvalidSize_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.suggest("mouse", 11));
+    }
+
+    @Test
+    @DisplayName("Should reject a query without searchable terms")
+    void search_OnlyStopWords_ShouldThrow() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("de com", 0, 10));
+    }
+}
@@ -1,17 +1,29 @@
 package com.mercadolivre.api.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,18 +31,37 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.mercadolivre.api.cache.SingleFlight;
+import com.mercadolivre.api.dto.ProductLookupResultDTO;
+import com.mercadolivre.api.dto.ProductMultiGetResponseDTO;
+import com.mercadolivre.api.dto.ProductPatchDTO;
 import com.mercadolivre.api.dto.ProductRequestDTO;
 import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.dto.ProductSliceResponseDTO;
+import com.mercadolivre.api.event.ProductChangedEvent;
+import com.mercadolivre.api.exception.PreconditionFailedException;
 import com.mercadolivre.api.exception.ResourceNotFoundException;
 import com.mercadolivre.api.mapper.ProductMapper;
 import com.mercadolivre.api.model.Product;
+import com.mercadolivre.api.pagination.ProductCursor;
 import com.mercadolivre.api.repository.ProductRepository;
+import com.mercadolivre.api.search.PriceIndex;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductServiceImpl - Unit Tests")
@@ -42,6 +73,27 @@ class ProductServiceImplTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private SingleFlight<Long, ProductResponseDTO> productLoads = new SingleFlight<>();
+
+    @Mock
+    private MissingProductCache missingProducts;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private ProductPriceIndex priceIndex;
+
+    @Spy
+    private OptimisticRetry optimisticRetry = new OptimisticRetry(mock(PlatformTransactionManager.class), 3, Duration.ZERO);
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private ProductServiceImpl productService;
 
@@ -112,6 +164,7 @@ class ProductServiceImplTest {
         assertNotNull(result);
         assertEquals(1L, result.id());
         verify(productRepository, times(1)).findById(1L);
+        verify(productLoads, times(1)).execute(eq(1L), any());
     }
 
     @Test
@@ -124,19 +177,169 @@ class ProductServiceImplTest {
         });
     }
 
+    @Test
+    @DisplayName("Should remember an id that was not found")
+    void getProductById_NotFound_ShouldMarkMissing() {
+        when(missingProducts.creationStamp()).thenReturn(7L);
+        when(productRepository.findById(999L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductById(999L));
+
+        verify(missingProducts).markMissing(999L, 7L);
+    }
+
+    @Test
+    @DisplayName("Should reject a known missing id without querying the database")
+    void getProductById_KnownMissing_ShouldSkipDatabase() {
+        when(missingProducts.isKnownMissing(999L)).thenReturn(true);
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.getProductById(999L));
+
+        verify(productRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should serve price-sorted ranges from the price index and hydrate through the cache")
+    void getProductsByPriceRange_SortedByPrice_ShouldUseIndex() {
+        Pageable pageable = PageRequest.of(1, 1, Sort.by(Sort.Direction.DESC, "price"));
+        when(priceIndex.range(BigDecimal.TEN, null, true, 1, 1)).thenReturn(Optional.of(new PriceIndex.Result(3, List.of(1L))));
+        when(cacheManager.getCache("products")).thenReturn(new ConcurrentMapCache("products"));
+        when(productRepository.findAllById(List.of(1L))).thenReturn(List.of(product));
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        Page<ProductResponseDTO> result = productService.getProductsByPriceRange(BigDecimal.TEN, null, pageable);
+
+        assertEquals(List.of(responseDTO), result.getContent());
+        assertEquals(3, result.getTotalElements());
+        verify(productRepository, never()).findByPriceRange(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should hydrate index pages larger than the multi-get limit")
+    void getProductsByPriceRange_WithLargePage_ShouldNotApplyMultiGetLimit() {
+        int size = ProductMultiGetResponseDTO.MAX_IDS + 50;
+        Pageable pageable = PageRequest.of(0, size, Sort.by("price"));
+        List<Long> ids = LongStream.rangeClosed(1, size).boxed().toList();
+        List<Product> products = ids.stream().map(id -> {
+            Product indexed = new Product();
+            indexed.setId(id);
+            indexed.setPrice(BigDecimal.TEN);
+            return indexed;
+        }).toList();
+        when(priceIndex.range(null, null, false, 0, size)).thenReturn(Optional.of(new PriceIndex.Result(size, ids)));
+        when(cacheManager.getCache("products")).thenReturn(new ConcurrentMapCache("products"));
+        when(productRepository.findAllById(ids)).thenReturn(products);
+        when(productMapper.toDto(any(Product.class))).thenAnswer(invocation -> {
+            Product indexed = invocation.getArgument(0);
+            return new ProductResponseDTO(indexed.getId(), "Product", null, indexed.getPrice());
+        });
+
+        Page<ProductResponseDTO> result = productService.getProductsByPriceRange(null, null, pageable);
+
+        assertEquals(size, result.getContent().size());
+        assertEquals(ids, result.getContent().stream().map(ProductResponseDTO::id).toList());
+    }
+
+    @Test
+    @DisplayName("Should drop ids missing from the database from the index and answer from the database")
+    void getProductsByPriceRange_WithStaleIndex_ShouldFallBackToDatabase() {
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+        Pageable expected = PageRequest.of(0, 2, Sort.by("price").and(Sort.by("id")));
+        when(priceIndex.range(null, null, false, 0, 2)).thenReturn(Optional.of(new PriceIndex.Result(3, List.of(1L, 2L))));
+        when(cacheManager.getCache("products")).thenReturn(new ConcurrentMapCache("products"));
+        when(productRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(product));
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+        when(productRepository.findByPriceRange(BigDecimal.ZERO, new BigDecimal("99999999.99"), expected))
+            .thenReturn(new PageImpl<>(List.of(product), expected, 2));
+
+        Page<ProductResponseDTO> result = productService.getProductsByPriceRange(null, null, pageable);
+
+        verify(priceIndex).discard(List.of(2L));
+        assertEquals(List.of(responseDTO), result.getContent());
+        assertEquals(2, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database with open bounds resolved and id as tie-breaker")
+    void getProductsByPriceRange_SortedByName_ShouldQueryDatabase() {
+        Pageable pageable = PageRequest.of(0, 10, Sort.by("name"));
+        Pageable expected = PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id")));
+        when(productRepository.findByPriceRange(BigDecimal.ZERO, new BigDecimal("100"), expected))
+            .thenReturn(new PageImpl<>(List.of(product), expected, 1));
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        Page<ProductResponseDTO> result = productService.getProductsByPriceRange(null, new BigDecimal("100"), pageable);
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(pageable, result.getPageable());
+        verify(priceIndex, never()).range(any(), any(), anyBoolean(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a price range whose minimum exceeds its maximum")
+    void getProductsByPriceRange_InvertedBounds_ShouldThrow() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            productService.getProductsByPriceRange(new BigDecimal("10"), BigDecimal.ONE, pageable));
+    }
+
+    @Test
+    @DisplayName("Should resolve cached ids, load the rest in one query and keep request order")
+    void getProductsByIds_ShouldCombineCacheAndDatabase() {
+        ConcurrentMapCache products = new ConcurrentMapCache("products");
+        ProductResponseDTO cached = new ProductResponseDTO(2L, "Mouse", null, new BigDecimal("50.00"));
+        products.put(2L, cached);
+        when(cacheManager.getCache("products")).thenReturn(products);
+        when(missingProducts.creationStamp()).thenReturn(3L);
+        when(productRepository.findAllById(List.of(99L, 1L))).thenReturn(List.of(product));
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        ProductMultiGetResponseDTO result = productService.getProductsByIds(List.of(99L, 2L, 1L, 2L));
+
+        assertEquals(4, result.requested());
+        assertEquals(3, result.found());
+        assertEquals(List.of(99L, 2L, 1L, 2L), result.results().stream().map(ProductLookupResultDTO::id).toList());
+        assertFalse(result.results().get(0).found());
+        assertEquals(cached, result.results().get(1).product());
+        assertEquals(responseDTO, result.results().get(2).product());
+        assertEquals(responseDTO, products.get(1L, ProductResponseDTO.class));
+        verify(missingProducts).markMissing(99L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should not query the database for ids known to be missing")
+    void getProductsByIds_KnownMissing_ShouldSkipDatabase() {
+        when(missingProducts.isKnownMissing(99L)).thenReturn(true);
+
+        ProductMultiGetResponseDTO result = productService.getProductsByIds(List.of(99L));
+
+        assertEquals(0, result.found());
+        verify(productRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Should reject more ids than allowed")
+    void getProductsByIds_TooMany_ShouldThrow() {
+        List<Long> ids = LongStream.rangeClosed(1, ProductMultiGetResponseDTO.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(IllegalArgumentException.class, () -> productService.getProductsByIds(ids));
+    }
+
     @Test
     @DisplayName("Should create new product")
     @SuppressWarnings("null")
     void createProduct_ShouldReturnCreatedProduct() {
         when(productMapper.toEntity(requestDTO)).thenReturn(product);
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(responseDTO);
 
         ProductResponseDTO result = productService.createProduct(requestDTO);
 
         assertNotNull(result);
         assertEquals("Notebook", result.name());
-        verify(productRepository, times(1)).save(any(Product.class));
+        verify(productRepository, times(1)).saveAndFlush(any(Product.class));
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.created(responseDTO));
     }
 
     @Test
@@ -144,14 +347,133 @@ class ProductServiceImplTest {
     @SuppressWarnings("null")
     void updateProduct_ShouldReturnUpdatedProduct() {
         when(productRepository.findById(1L)).thenReturn(Optional.of(product));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
         when(productMapper.toDto(product)).thenReturn(responseDTO);
 
         ProductResponseDTO result = productService.updateProduct(1L, requestDTO);
 
         assertNotNull(result);
         verify(productMapper, times(1)).updateEntityFromDto(requestDTO, product);
-        verify(productRepository, times(1)).save(product);
+        verify(productRepository, times(1)).saveAndFlush(product);
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.updated(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should update when the product is still at the expected version")
+    void updateProduct_WithMatchingVersion_ShouldUpdate() {
+        product.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product)).thenReturn(product);
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        assertEquals(responseDTO, productService.updateProduct(1L, requestDTO, 3L));
+        verify(productRepository, times(1)).saveAndFlush(product);
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition without writing when the version moved on")
+    void updateProduct_WithStaleVersion_ShouldThrowPreconditionFailed() {
+        product.setVersion(4L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(1L, requestDTO, 3L));
+        verify(productMapper, never()).updateEntityFromDto(any(), any());
+        verify(productRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should re-read and retry an unconditional update that lost the version race")
+    void updateProduct_WithConcurrentWriter_ShouldRetryFromFreshRead() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L))
+            .thenReturn(product);
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        assertEquals(responseDTO, productService.updateProduct(1L, requestDTO));
+        verify(productRepository, times(2)).findById(1L);
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.updated(responseDTO));
+    }
+
+    @Test
+    @DisplayName("Should give up with the conflict once the retry attempts are spent")
+    void updateProduct_WithPersistentConflict_ShouldRethrowAfterMaxAttempts() {
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> productService.updateProduct(1L, requestDTO));
+        verify(productRepository, times(3)).saveAndFlush(product);
+    }
+
+    @Test
+    @DisplayName("Should not retry a conditional update that lost the version race")
+    void updateProduct_WithExpectedVersionAndConcurrentWriter_ShouldThrowPreconditionFailed() {
+        product.setVersion(3L);
+        when(productRepository.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepository.saveAndFlush(product))
+            .thenThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L));
+
+        assertThrows(PreconditionFailedException.class, () -> productService.updateProduct(1L, requestDTO, 3L));
+        verify(productRepository, times(1)).saveAndFlush(product);
+    }
+
+    @Test
+    @DisplayName("Should patch with one guarded UPDATE and derive the result from the cached product")
+    void patchProduct_WithCurrentCachedVersion_ShouldNotReadRow() {
+        ConcurrentMapCache products = new ConcurrentMapCache("products");
+        products.put(1L, new ProductResponseDTO(1L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00"), 3L, null));
+        when(cacheManager.getCache("products")).thenReturn(products);
+        ProductPatchDTO patch = new ProductPatchDTO(null, null, new BigDecimal("3400.00"), false);
+        when(productRepository.patch(eq(1L), eq(patch), eq(3L), any())).thenReturn(1);
+        when(productMapper.applyPatch(any(), eq(patch), any())).thenCallRealMethod();
+
+        ProductResponseDTO result = productService.patchProduct(1L, patch, null);
+
+        assertEquals(new BigDecimal("3400.00"), result.price());
+        assertEquals("Dell Inspiron", result.description());
+        assertEquals(4L, result.version());
+        verify(productRepository, never()).findDtoById(any());
+        verify(productRepository, never()).findById(any());
+        verify(eventPublisher).publishEvent(ProductChangedEvent.updated(result));
+    }
+
+    @Test
+    @DisplayName("Should fall back to an unguarded UPDATE and read the row back when the cached copy is stale")
+    void patchProduct_WithStaleCachedVersion_ShouldReadRowBack() {
+        ConcurrentMapCache products = new ConcurrentMapCache("products");
+        products.put(1L, new ProductResponseDTO(1L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00"), 3L, null));
+        when(cacheManager.getCache("products")).thenReturn(products);
+        ProductPatchDTO patch = new ProductPatchDTO("Notebook Pro", null, null, false);
+        ProductResponseDTO current = new ProductResponseDTO(1L, "Notebook Pro", "Dell XPS", new BigDecimal("3900.00"), 6L, null);
+        when(productRepository.patch(eq(1L), eq(patch), eq(3L), any())).thenReturn(0);
+        when(productRepository.patch(eq(1L), eq(patch), isNull(), any())).thenReturn(1);
+        when(productRepository.findDtoById(1L)).thenReturn(Optional.of(current));
+
+        assertEquals(current, productService.patchProduct(1L, patch, null));
+    }
+
+    @Test
+    @DisplayName("Should fail the precondition when the If-Match version no longer matches")
+    void patchProduct_WithStaleExpectedVersion_ShouldThrowPreconditionFailed() {
+        when(cacheManager.getCache("products")).thenReturn(new ConcurrentMapCache("products"));
+        ProductPatchDTO patch = new ProductPatchDTO(null, null, BigDecimal.TEN, false);
+        when(productRepository.patch(eq(1L), eq(patch), eq(2L), any())).thenReturn(0);
+        when(productRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> productService.patchProduct(1L, patch, 2L));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when patching a missing product")
+    void patchProduct_WithMissingProduct_ShouldThrowNotFound() {
+        when(cacheManager.getCache("products")).thenReturn(new ConcurrentMapCache("products"));
+        ProductPatchDTO patch = new ProductPatchDTO(null, null, BigDecimal.TEN, false);
+        when(productRepository.patch(eq(99L), eq(patch), isNull(), any())).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> productService.patchProduct(99L, patch, null));
     }
 
     @Test
@@ -162,5 +484,49 @@ class ProductServiceImplTest {
         productService.deleteProduct(1L);
 
         verify(productRepository, times(1)).deleteById(1L);
+        verify(eventPublisher, times(1)).publishEvent(ProductChangedEvent.deleted(1L));
+    }
+
+    @Test
+    @DisplayName("Should return first slice with next cursor when more products exist")
+    @SuppressWarnings("null")
+    void getProductsAfter_WithoutCursor_ShouldReturnFirstSlice() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.ASC, "price").and(Sort.by(Sort.Direction.ASC, "id")));
+        Slice<Product> slice = new SliceImpl<>(List.of(product), pageable, true);
+
+        when(productRepository.findSliceBy(pageable)).thenReturn(slice);
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        ProductSliceResponseDTO result = productService.getProductsAfter(null, 1, "price", Sort.Direction.ASC);
+
+        assertEquals(1, result.content().size());
+        assertTrue(result.hasNext());
+        assertEquals(new ProductCursor("price", Sort.Direction.ASC, 1L, "3500.00"), ProductCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    @DisplayName("Should seek after cursor using the cursor ordering")
+    @SuppressWarnings("null")
+    void getProductsAfter_WithCursor_ShouldSeekAfterLastKey() {
+        String cursor = new ProductCursor("name", Sort.Direction.DESC, 5L, "Notebook").encode();
+        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "name").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        when(productRepository.seekByNameDesc(eq("Notebook"), eq(5L), eq(pageable)))
+            .thenReturn(new SliceImpl<>(List.of(product), pageable, false));
+        when(productMapper.toDto(product)).thenReturn(responseDTO);
+
+        ProductSliceResponseDTO result = productService.getProductsAfter(cursor, 10, "id", Sort.Direction.ASC);
+
+        assertEquals(1, result.content().size());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+        verify(productRepository, times(1)).seekByNameDesc(eq("Notebook"), eq(5L), eq(pageable));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sort field on cursor pagination")
+    void getProductsAfter_WithInvalidSortField_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () ->
+            productService.getProductsAfter(null, 10, "description", Sort.Direction.ASC));
     }
 }
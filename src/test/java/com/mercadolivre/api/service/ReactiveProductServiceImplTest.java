@@ -0,0 +1,95 @@
+package com.mercadolivre.api.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.mercadolivre.api.dto.ProductResponseDTO;
+import com.mercadolivre.api.exception.ResourceNotFoundException;
+import com.mercadolivre.api.exception.ServiceOverloadedException;
+
+import reactor.core.scheduler.Schedulers;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReactiveProductServiceImpl - Unit Tests")
+class ReactiveProductServiceImplTest {
+
+    @Mock
+    private ProductService productService;
+
+    private CacheManager cacheManager;
+    private ReactiveProductServiceImpl reactiveProductService;
+    private ProductResponseDTO product;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager("products");
+        reactiveProductService = new ReactiveProductServiceImpl(productService, cacheManager, Schedulers.immediate());
+        product = new ProductResponseDTO(1L, "Notebook", "Dell Inspiron", new BigDecimal("3500.00"));
+    }
+
+    @Test
+    @DisplayName("Should answer a cached product without calling the blocking service")
+    void getProductById_CacheHit_ShouldSkipService() {
+        cacheManager.getCache("products").put(1L, product);
+
+        assertSame(product, reactiveProductService.getProductById(1L).block());
+        verify(productService, never()).getProductById(1L);
+    }
+
+    @Test
+    @DisplayName("Should load a missing product through the blocking service")
+    void getProductById_CacheMiss_ShouldDelegate() {
+        when(productService.getProductById(1L)).thenReturn(product);
+
+        assertSame(product, reactiveProductService.getProductById(1L).block());
+    }
+
+    @Test
+    @DisplayName("Should propagate not found as an error signal")
+    void getProductById_NotFound_ShouldError() {
+        when(productService.getProductById(99L)).thenThrow(new ResourceNotFoundException("Product not found with id: 99"));
+
+        assertThrows(ResourceNotFoundException.class, () -> reactiveProductService.getProductById(99L).block());
+    }
+
+    @Test
+    @DisplayName("Should turn a full read queue into an overload error")
+    void getProductById_QueueFull_ShouldRejectAsOverloaded() {
+        ReactiveProductServiceImpl saturated = new ReactiveProductServiceImpl(productService, cacheManager,
+            Schedulers.fromExecutor(task -> {
+                throw new RejectedExecutionException("queue full");
+            }));
+
+        assertThrows(ServiceOverloadedException.class, () -> saturated.getProductById(1L).block());
+    }
+
+    @Test
+    @DisplayName("Should return the page from the blocking service")
+    void getAllProducts_ShouldDelegate() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<ProductResponseDTO> page = new PageImpl<>(List.of(product), pageable, 1);
+        when(productService.getAllProducts(pageable)).thenReturn(page);
+
+        assertEquals(1, reactiveProductService.getAllProducts(pageable).block().getTotalElements());
+    }
+}